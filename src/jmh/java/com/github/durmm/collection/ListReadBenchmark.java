@@ -0,0 +1,103 @@
+package com.github.durmm.collection;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Read-only operations over a pre-filled list. The list is built once per trial,
+ * so only the measured operation shows up in the {@code -prof gc} numbers.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListReadBenchmark {
+    private static final int INDEX_MASK = 1023;
+    private static final int UNCACHED = 1 << 10;
+
+    @Param({"CUSTOM_LIST", "ARRAY_LIST", "LINKED_LIST"})
+    public ListType type;
+
+    @Param({"16", "1024", "65536", "1048576", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private int[] indices;
+    private int cursor;
+    private Integer middle;
+    private Integer missing;
+
+    @Setup
+    public void setUp() {
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = UNCACHED + i;
+        }
+        list = type.filled(elements);
+
+        Random random = new Random(42);
+        indices = new int[INDEX_MASK + 1];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+        }
+
+        // Values past the Integer cache box fresh, so the scans have to go through equals() and not just identity.
+        middle = Integer.valueOf(UNCACHED + size / 2);
+        missing = Integer.valueOf(UNCACHED - 1);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(indices[cursor++ & INDEX_MASK]);
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return list.contains(middle);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return list.contains(missing);
+    }
+
+    @Benchmark
+    public int indexOfHit() {
+        return list.indexOf(middle);
+    }
+
+    @Benchmark
+    public int indexOfMiss() {
+        return list.indexOf(missing);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer element : list) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public Object[] toArray() {
+        return list.toArray();
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.durmm.collection;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * List implementations compared by the benchmarks, selected through a JMH {@code @Param}.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+public enum ListType {
+    CUSTOM_LIST {
+        @Override
+        <E> List<E> create() {
+            return new CustomList<>();
+        }
+    },
+    ARRAY_LIST {
+        @Override
+        <E> List<E> create() {
+            return new ArrayList<>();
+        }
+    },
+    LINKED_LIST {
+        @Override
+        <E> List<E> create() {
+            return new LinkedList<>();
+        }
+    };
+
+    abstract <E> List<E> create();
+
+    <E> List<E> filled(E[] elements) {
+        List<E> list = create();
+        for (E element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.durmm.collection;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mutating operations. Building a list of {@code size} elements per invocation would
+ * dominate every measurement, so positional writes are measured in pairs that leave
+ * the list at its original size: an insert followed by a removal.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListWriteBenchmark {
+
+    @Param({"CUSTOM_LIST", "ARRAY_LIST", "LINKED_LIST"})
+    public ListType type;
+
+    @Param({"16", "1024", "65536", "1048576", "10000000"})
+    public int size;
+
+    private Integer[] elements;
+    private List<Integer> source;
+    private List<Integer> list;
+    private Integer inserted;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        source = type.filled(elements);
+        inserted = -1;
+    }
+
+    /**
+     * Seeds {@link #inserted} at the tail, so {@link #removeObjectThenAdd()} finds it from the first invocation on.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        list = type.filled(elements);
+        list.add(inserted);
+    }
+
+    /**
+     * Appends {@code size} elements to an empty list, including every resize on the way.
+     */
+    @Benchmark
+    public List<Integer> add() {
+        List<Integer> target = type.create();
+        for (Integer element : elements) {
+            target.add(element);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public Integer addAtMiddleThenRemoveAtIndex() {
+        int middle = list.size() / 2;
+        list.add(middle, inserted);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public Integer addAtHeadThenRemoveAtIndex() {
+        list.add(0, inserted);
+        return list.remove(0);
+    }
+
+    /**
+     * Removes by equality and appends the element back, so every invocation
+     * scans the whole list to find it at the tail.
+     */
+    @Benchmark
+    public boolean removeObjectThenAdd() {
+        boolean removed = list.remove(inserted);
+        list.add(inserted);
+        return removed;
+    }
+
+    @Benchmark
+    public List<Integer> addAll() {
+        List<Integer> target = type.create();
+        target.addAll(source);
+        return target;
+    }
+}
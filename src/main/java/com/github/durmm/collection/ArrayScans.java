@@ -0,0 +1,260 @@
+package com.github.durmm.collection;
+
+import java.util.Arrays;
+
+/**
+ * Linear searches over array ranges, shared by the lists of this package.
+ * <p>
+ * The object scans test {@code null} in a separate loop and compare a whole block by identity
+ * before calling {@code equals}, which is cheap for interned and cached elements. The primitive
+ * scans test a whole block without branching in between, so the compiler can turn a block
+ * into a few wide compares, and fall back to element by element only inside the matching block.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+final class ArrayScans {
+    private static final int OBJECT_BLOCK = 4;
+    private static final int PRIMITIVE_BLOCK = 8;
+
+    private ArrayScans() {
+    }
+
+    /**
+     * @return The first index of an element equal to {@code o} in {@code [from, to)}, or -1.
+     */
+    static int indexOf(Object[] a, int from, int to, Object o) {
+        if (o == null) {
+            for (int i = from; i < to; i++) {
+                if (a[i] == null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int i = from;
+        for (int bound = to - OBJECT_BLOCK; i <= bound; i += OBJECT_BLOCK) {
+            if (a[i] == o | a[i + 1] == o | a[i + 2] == o | a[i + 3] == o) {
+                break;
+            }
+            if (o.equals(a[i])) {
+                return i;
+            }
+            if (o.equals(a[i + 1])) {
+                return i + 1;
+            }
+            if (o.equals(a[i + 2])) {
+                return i + 2;
+            }
+            if (o.equals(a[i + 3])) {
+                return i + 3;
+            }
+        }
+        for (; i < to; i++) {
+            Object e = a[i];
+            if (e == o || o.equals(e)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The last index of an element equal to {@code o} in {@code [from, to)}, or -1.
+     */
+    static int lastIndexOf(Object[] a, int from, int to, Object o) {
+        if (o == null) {
+            for (int i = to - 1; i >= from; i--) {
+                if (a[i] == null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int i = to;
+        for (int bound = from + OBJECT_BLOCK; i >= bound; i -= OBJECT_BLOCK) {
+            if (a[i - 1] == o | a[i - 2] == o | a[i - 3] == o | a[i - 4] == o) {
+                break;
+            }
+            if (o.equals(a[i - 1])) {
+                return i - 1;
+            }
+            if (o.equals(a[i - 2])) {
+                return i - 2;
+            }
+            if (o.equals(a[i - 3])) {
+                return i - 3;
+            }
+            if (o.equals(a[i - 4])) {
+                return i - 4;
+            }
+        }
+        for (i--; i >= from; i--) {
+            Object e = a[i];
+            if (e == o || o.equals(e)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The indexes of all the elements equal to {@code o} in {@code [from, to)}, in ascending order.
+     */
+    static int[] indexOfAll(Object[] a, int from, int to, Object o) {
+        int[] indexes = new int[8];
+        int count = 0;
+        if (o == null) {
+            for (int i = from; i < to; i++) {
+                if (a[i] == null) {
+                    if (count == indexes.length) {
+                        indexes = Arrays.copyOf(indexes, count * 2);
+                    }
+                    indexes[count++] = i;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                Object e = a[i];
+                if (e == o || o.equals(e)) {
+                    if (count == indexes.length) {
+                        indexes = Arrays.copyOf(indexes, count * 2);
+                    }
+                    indexes[count++] = i;
+                }
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    static int indexOf(int[] a, int from, int to, int v) {
+        int i = from;
+        for (int bound = to - PRIMITIVE_BLOCK; i <= bound; i += PRIMITIVE_BLOCK) {
+            if (a[i] == v | a[i + 1] == v | a[i + 2] == v | a[i + 3] == v
+                    | a[i + 4] == v | a[i + 5] == v | a[i + 6] == v | a[i + 7] == v) {
+                break;
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == v) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(int[] a, int from, int to, int v) {
+        int i = to;
+        for (int bound = from + PRIMITIVE_BLOCK; i >= bound; i -= PRIMITIVE_BLOCK) {
+            if (a[i - 1] == v | a[i - 2] == v | a[i - 3] == v | a[i - 4] == v
+                    | a[i - 5] == v | a[i - 6] == v | a[i - 7] == v | a[i - 8] == v) {
+                break;
+            }
+        }
+        for (i--; i >= from; i--) {
+            if (a[i] == v) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int indexOf(long[] a, int from, int to, long v) {
+        int i = from;
+        for (int bound = to - PRIMITIVE_BLOCK; i <= bound; i += PRIMITIVE_BLOCK) {
+            if (a[i] == v | a[i + 1] == v | a[i + 2] == v | a[i + 3] == v
+                    | a[i + 4] == v | a[i + 5] == v | a[i + 6] == v | a[i + 7] == v) {
+                break;
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == v) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastIndexOf(long[] a, int from, int to, long v) {
+        int i = to;
+        for (int bound = from + PRIMITIVE_BLOCK; i >= bound; i -= PRIMITIVE_BLOCK) {
+            if (a[i - 1] == v | a[i - 2] == v | a[i - 3] == v | a[i - 4] == v
+                    | a[i - 5] == v | a[i - 6] == v | a[i - 7] == v | a[i - 8] == v) {
+                break;
+            }
+        }
+        for (i--; i >= from; i--) {
+            if (a[i] == v) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares like {@link Double#equals(Object)}: {@code NaN} matches itself and {@code 0.0} differs from {@code -0.0}.
+     */
+    static int indexOf(double[] a, int from, int to, double v) {
+        if (!isPlainComparable(v)) {
+            long bits = Double.doubleToLongBits(v);
+            for (int i = from; i < to; i++) {
+                if (Double.doubleToLongBits(a[i]) == bits) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int i = from;
+        for (int bound = to - PRIMITIVE_BLOCK; i <= bound; i += PRIMITIVE_BLOCK) {
+            if (a[i] == v | a[i + 1] == v | a[i + 2] == v | a[i + 3] == v
+                    | a[i + 4] == v | a[i + 5] == v | a[i + 6] == v | a[i + 7] == v) {
+                break;
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] == v) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares like {@link Double#equals(Object)}: {@code NaN} matches itself and {@code 0.0} differs from {@code -0.0}.
+     */
+    static int lastIndexOf(double[] a, int from, int to, double v) {
+        if (!isPlainComparable(v)) {
+            long bits = Double.doubleToLongBits(v);
+            for (int i = to - 1; i >= from; i--) {
+                if (Double.doubleToLongBits(a[i]) == bits) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int i = to;
+        for (int bound = from + PRIMITIVE_BLOCK; i >= bound; i -= PRIMITIVE_BLOCK) {
+            if (a[i - 1] == v | a[i - 2] == v | a[i - 3] == v | a[i - 4] == v
+                    | a[i - 5] == v | a[i - 6] == v | a[i - 7] == v | a[i - 8] == v) {
+                break;
+            }
+        }
+        for (i--; i >= from; i--) {
+            if (a[i] == v) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Whether {@code ==} agrees with {@link Double#equals(Object)} for {@code v}, which holds
+     * for every value except {@code NaN} and the zeros.
+     */
+    private static boolean isPlainComparable(double v) {
+        return v == v && v != 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Immutable view over a prefix of a backing array the list no longer writes to.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+final class ArraySnapshot<E> extends AbstractList<E> implements RandomAccess {
+    private final Object[] array;
+    private final int size;
+
+    ArraySnapshot(Object[] array, int size) {
+        this.array = array;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) array[index];
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+}
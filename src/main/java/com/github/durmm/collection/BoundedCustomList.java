@@ -0,0 +1,383 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * A list of a fixed capacity which evicts an element on {@link #add(Object)} instead of growing.
+ * <p>
+ * The backing array is allocated once with the capacity. Until it is full elements are appended;
+ * after that the new element takes the position of the element the {@link EvictionPolicy} picked.
+ * The policy keeps the slots of the array in a doubly linked order of age, stored in two int
+ * arrays, so choosing the victim, evicting it and recording an access are all O(1).
+ * <p>
+ * Lookups by value count hits and misses, see {@link #hitCount()} and {@link #missCount()}.
+ * Positional insertion is not supported, the position of a new element is decided by the eviction.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class BoundedCustomList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int NONE = -1;
+
+    private final EvictionPolicy policy;
+    private final Object[] array;
+    private final int[] older;
+    private final int[] newer;
+    private int oldest = NONE;
+    private int newest = NONE;
+    private int size;
+    private Consumer<? super E> evictionListener;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param capacity The maximal amount of elements, allocated up front.
+     * @param policy   Decides which element is evicted when the list is full.
+     */
+    public BoundedCustomList(int capacity, EvictionPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        if (policy == null) {
+            throw new NullPointerException("The eviction policy cannot be null.");
+        }
+
+        this.policy = policy;
+        this.array = new Object[capacity];
+        this.older = new int[capacity];
+        this.newer = new int[capacity];
+    }
+
+    public int capacity() {
+        return array.length;
+    }
+
+    public EvictionPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Sets the listener called with every evicted element, {@code null} to stop notifying.
+     * It is called after the new element took its place.
+     */
+    public void setEvictionListener(Consumer<? super E> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * @return How many lookups by value found the element.
+     */
+    public long hitCount() {
+        return hits;
+    }
+
+    /**
+     * @return How many lookups by value did not find the element.
+     */
+    public long missCount() {
+        return misses;
+    }
+
+    /**
+     * @return The share of lookups by value which found the element, 0 when there were none.
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public long evictionCount() {
+        return evictions;
+    }
+
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void linkNewest(int slot) {
+        older[slot] = newest;
+        newer[slot] = NONE;
+        if (newest == NONE) {
+            oldest = slot;
+        } else {
+            newer[newest] = slot;
+        }
+        newest = slot;
+    }
+
+    private void unlink(int slot) {
+        if (older[slot] == NONE) {
+            oldest = newer[slot];
+        } else {
+            newer[older[slot]] = newer[slot];
+        }
+        if (newer[slot] == NONE) {
+            newest = older[slot];
+        } else {
+            older[newer[slot]] = older[slot];
+        }
+    }
+
+    private void accessed(int slot) {
+        if (policy == EvictionPolicy.LRU && slot != newest) {
+            unlink(slot);
+            linkNewest(slot);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Counts as an access for {@link EvictionPolicy#LRU}.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        accessed(index);
+        return (E) array[index];
+    }
+
+    /**
+     * Counts as an access for {@link EvictionPolicy#LRU}.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+
+        accessed(index);
+        E old = (E) array[index];
+        array[index] = element;
+        return old;
+    }
+
+    /**
+     * Appends the element, or replaces the element picked by the eviction policy when the list is full.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean add(E e) {
+        if (size < array.length) {
+            array[size] = e;
+            linkNewest(size++);
+            modCount++;
+            return true;
+        }
+
+        int victim = oldest;
+        E evicted = (E) array[victim];
+        array[victim] = e;
+        unlink(victim);
+        linkNewest(victim);
+        evictions++;
+        modCount++;
+        if (evictionListener != null) {
+            evictionListener.accept(evicted);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the element in O(n), the elements after it move down and keep their age.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        E old = (E) array[index];
+        unlink(index);
+        int moved = size - index - 1;
+        System.arraycopy(array, index + 1, array, index, moved);
+        System.arraycopy(older, index + 1, older, index, moved);
+        System.arraycopy(newer, index + 1, newer, index, moved);
+        array[--size] = null;
+        for (int i = 0; i < size; i++) {
+            if (older[i] > index) {
+                older[i]--;
+            }
+            if (newer[i] > index) {
+                newer[i]--;
+            }
+        }
+        if (oldest > index) {
+            oldest--;
+        }
+        if (newest > index) {
+            newest--;
+        }
+        modCount++;
+        return old;
+    }
+
+    /**
+     * A hit counts as an access for {@link EvictionPolicy#LRU}.
+     */
+    @Override
+    public int indexOf(Object o) {
+        return recordLookup(ArrayScans.indexOf(array, 0, size, o));
+    }
+
+    /**
+     * A hit counts as an access for {@link EvictionPolicy#LRU}.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return recordLookup(ArrayScans.lastIndexOf(array, 0, size, o));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    private int recordLookup(int index) {
+        if (index < 0) {
+            misses++;
+        } else {
+            hits++;
+            accessed(index);
+        }
+        return index;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+        oldest = NONE;
+        newest = NONE;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ListItr(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return new ListItr(index);
+    }
+
+    /**
+     * Reads the backing array directly, so iterating does not count as an access.
+     */
+    private final class ListItr implements ListIterator<E> {
+        int cursor;
+        int lastReturned = NONE;
+        int expectedModCount = modCount;
+
+        ListItr(int index) {
+            this.cursor = index;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return (E) array[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --cursor;
+            return (E) array[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NONE) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            BoundedCustomList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturned == NONE) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            array[lastReturned] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
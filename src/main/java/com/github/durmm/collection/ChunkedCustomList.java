@@ -0,0 +1,165 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list which keeps its elements in fixed-size chunks instead of a single array.
+ * <p>
+ * Appending never copies the elements already stored: a full list gets a new chunk,
+ * only the small chunk directory is ever reallocated. Chunk sizes are powers of two,
+ * so {@link #get(int)} finds an element with a shift and a mask in O(1).
+ * <p>
+ * Use it for very large lists where a doubling of a single array means
+ * a huge allocation and copy, for example a humongous region on G1.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class ChunkedCustomList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * 4096 references, well below the humongous object threshold of any G1 region size.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+
+    private final int shift;
+    private final int mask;
+    private Object[][] chunks = new Object[4][];
+    private int size;
+
+    public ChunkedCustomList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize The amount of elements in a single chunk, must be a power of two.
+     */
+    public ChunkedCustomList(int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("The chunk size must be a power of two: " + chunkSize);
+        }
+
+        this.shift = Integer.numberOfTrailingZeros(chunkSize);
+        this.mask = chunkSize - 1;
+    }
+
+    /**
+     * Makes sure the chunk holding {@code index} is allocated.
+     */
+    private void ensureChunk(int index) {
+        int chunk = index >>> shift;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Object[mask + 1];
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        return (E) chunks[index >>> shift][index & mask];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+
+        Object[] chunk = chunks[index >>> shift];
+        E old = (E) chunk[index & mask];
+        chunk[index & mask] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        ensureChunk(size);
+        chunks[size >>> shift][size & mask] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Shifts the tail by one slot chunk by chunk, carrying the last element
+     * of every chunk over to the head of the next one.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        ensureChunk(size);
+        int last = size;
+        int lastChunk = last >>> shift;
+        int firstChunk = index >>> shift;
+
+        for (int c = lastChunk; c > firstChunk; c--) {
+            Object[] chunk = chunks[c];
+            int end = c == lastChunk ? last & mask : mask;
+            System.arraycopy(chunk, 0, chunk, 1, end);
+            chunk[0] = chunks[c - 1][mask];
+        }
+
+        Object[] chunk = chunks[firstChunk];
+        int from = index & mask;
+        int end = firstChunk == lastChunk ? last & mask : mask;
+        System.arraycopy(chunk, from, chunk, from + 1, end - from);
+        chunk[from] = element;
+
+        size++;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        int last = size - 1;
+        int lastChunk = last >>> shift;
+        int firstChunk = index >>> shift;
+
+        Object[] chunk = chunks[firstChunk];
+        int from = index & mask;
+        E old = (E) chunk[from];
+        int end = firstChunk == lastChunk ? last & mask : mask;
+        System.arraycopy(chunk, from + 1, chunk, from, end - from);
+
+        for (int c = firstChunk + 1; c <= lastChunk; c++) {
+            chunk = chunks[c];
+            chunks[c - 1][mask] = chunk[0];
+            System.arraycopy(chunk, 1, chunk, 0, c == lastChunk ? last & mask : mask);
+        }
+        chunks[lastChunk][last & mask] = null;
+
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(chunks, null);
+        size = 0;
+        modCount++;
+    }
+}
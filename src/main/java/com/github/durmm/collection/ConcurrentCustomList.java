@@ -0,0 +1,140 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A thread-safe append-only list where producers almost never lock.
+ * <p>
+ * {@link #add(Object)} claims a slot with a CAS and writes the element into it.
+ * Storage is a fixed directory of buckets of doubling sizes, so growing never moves
+ * elements and never blocks readers. The bucket of a slot is installed before the slot is
+ * claimed, so a failed allocation leaves no claimed slot behind that would never be written.
+ * Unlike the rest of the list, installing a new bucket takes a lock, once per doubling, so that
+ * a single producer allocates it while the others wait instead of racing to allocate copies.
+ * <p>
+ * An element becomes visible once all the elements before it are written, so {@link #size()}
+ * only grows and {@link #get(int)} of any index below it is wait-free. As a consequence
+ * {@link #add(Object)} may return before its element is visible, while a producer
+ * of an earlier slot is still writing.
+ * Iteration is weakly consistent and sees elements appended while iterating.
+ * <p>
+ * Elements can be replaced by {@link #set(int, Object)}, but not removed or inserted.
+ * Null elements are not supported.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class ConcurrentCustomList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int FIRST_BUCKET_BITS = 5;
+    private static final int FIRST_BUCKET_SIZE = 1 << FIRST_BUCKET_BITS;
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_BUCKET_SIZE;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<E>> buckets =
+            new AtomicReferenceArray<>(Integer.SIZE - FIRST_BUCKET_BITS);
+    private final AtomicInteger claimed = new AtomicInteger();
+    private final AtomicInteger published = new AtomicInteger();
+    private final Object bucketLock = new Object();
+
+    private static int bucketOf(int position) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_BUCKET_BITS;
+    }
+
+    private static int offsetOf(int position) {
+        return position ^ Integer.highestOneBit(position);
+    }
+
+    /**
+     * @return The bucket holding the slot of {@code index}, installing it when it is missing.
+     */
+    private AtomicReferenceArray<E> bucketFor(int index) {
+        int position = index + FIRST_BUCKET_SIZE;
+        int bucket = bucketOf(position);
+        AtomicReferenceArray<E> slots = buckets.get(bucket);
+        if (slots == null) {
+            synchronized (bucketLock) {
+                slots = buckets.get(bucket);
+                if (slots == null) {
+                    slots = new AtomicReferenceArray<>(Integer.highestOneBit(position));
+                    buckets.set(bucket, slots);
+                }
+            }
+        }
+        return slots;
+    }
+
+    private E slot(int index) {
+        int position = index + FIRST_BUCKET_SIZE;
+        AtomicReferenceArray<E> slots = buckets.get(bucketOf(position));
+        return slots == null ? null : slots.get(offsetOf(position));
+    }
+
+    @Override
+    public int size() {
+        return published.get();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= published.get()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + published.get());
+        }
+
+        int position = index + FIRST_BUCKET_SIZE;
+        return buckets.get(bucketOf(position)).get(offsetOf(position));
+    }
+
+    /**
+     * Replaces an element which is already visible. Safe to call concurrently with appends.
+     */
+    @Override
+    public E set(int index, E element) {
+        if (element == null) {
+            throw new NullPointerException("The element cannot be null.");
+        }
+        if (index < 0 || index >= published.get()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + published.get());
+        }
+
+        int position = index + FIRST_BUCKET_SIZE;
+        return buckets.get(bucketOf(position)).getAndSet(offsetOf(position), element);
+    }
+
+    @Override
+    public boolean add(E e) {
+        if (e == null) {
+            throw new NullPointerException("The element cannot be null.");
+        }
+
+        while (true) {
+            int index = claimed.get();
+            if (index >= MAX_SIZE) {
+                throw new IllegalStateException("The list is full.");
+            }
+
+            AtomicReferenceArray<E> slots = bucketFor(index);
+            if (claimed.compareAndSet(index, index + 1)) {
+                slots.set(offsetOf(index + FIRST_BUCKET_SIZE), e);
+                publish();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves the visible size over every written slot. Whoever writes the slot a slower
+     * producer is still missing moves the size over the elements written after it.
+     */
+    private void publish() {
+        while (true) {
+            int size = published.get();
+            if (size >= claimed.get() || slot(size) == null) {
+                return;
+            }
+            published.compareAndSet(size, size + 1);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.durmm.collection;
+
+/**
+ * A reusable position over a list, an alternative to {@link java.util.Iterator}
+ * for code which traverses the same list many times.
+ * <p>
+ * A cursor is created once and rewound with {@link #reset()}, so repeated traversals
+ * allocate nothing, whether or not escape analysis removes the iterator:
+ * <pre>{@code
+ * cursor.reset();
+ * while (cursor.advance()) {
+ *     process(cursor.element());
+ * }
+ * }</pre>
+ *
+ * @param <E> The type of elements in the list.
+ * @author Gaya Gyulnazaryan
+ */
+public interface Cursor<E> {
+
+    /**
+     * Moves to the next element.
+     *
+     * @return Whether there was a next element.
+     * @throws java.util.ConcurrentModificationException When the list was structurally
+     *                                                   modified since the last {@link #reset()}.
+     */
+    boolean advance();
+
+    /**
+     * @return The element the cursor is at.
+     * @throws IllegalStateException When the cursor is before the first or after the last element.
+     */
+    E element();
+
+    /**
+     * @return The index of the element the cursor is at, -1 before the first element.
+     */
+    int index();
+
+    /**
+     * Moves the cursor before the first element and accepts the current state of the list.
+     */
+    void reset();
+}
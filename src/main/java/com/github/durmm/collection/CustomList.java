@@ -1,9 +1,21 @@
 package com.github.durmm.collection;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * TODO: Rename class to express its implementation main goal.
@@ -15,15 +27,193 @@ import java.util.ListIterator;
  */
 public class CustomList<E> implements List<E> {
 
-    private Object[] array = new Object[16];
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final GrowthPolicy growthPolicy;
+    private Object[] array;
     private int size;
+    private int modCount;
+    private int sharedLength;
+    private ElementIndex elementIndex;
+    private ShrinkPolicy shrinkPolicy;
+    private CustomListListener listener;
+
+    public CustomList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    public CustomList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    public CustomList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_CAPACITY, growthPolicy);
+    }
+
+    /**
+     * @param initialCapacity The initial length of the backing array.
+     * @param growthPolicy    Decides how much the backing array grows when it is full.
+     */
+    public CustomList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        this.array = new Object[initialCapacity];
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Grows the backing array to at least {@code minLength} as the growth policy suggests.
+     * The elements are moved with a single bulk copy.
+     */
+    private void extendArrayLength(int minLength) {
+        if (minLength < 0 || minLength > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length is too large.");
+        }
+
+        int newLength = Math.max(growthPolicy.newCapacity(array.length, minLength), minLength);
+        resize(newLength);
+    }
+
+    /**
+     * Moves the elements into a new backing array of {@code newLength} with a single bulk copy.
+     */
+    private void resize(int newLength) {
+        if (listener != null) {
+            listener.resized(array.length, newLength, Math.min(array.length, newLength));
+        }
+        array = Arrays.copyOf(array, newLength);
+        sharedLength = 0;
+    }
+
+    /**
+     * Shrinks the backing array after a removal when the shrink policy asks for it.
+     */
+    private void shrinkIfNeeded() {
+        if (shrinkPolicy != null) {
+            int newLength = shrinkPolicy.newCapacity(array.length, size);
+            if (newLength >= size && newLength < array.length) {
+                resize(newLength);
+            }
+        }
+    }
+
+    /**
+     * Makes the backing array as long as the list, releasing all the unused capacity.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            resize(size);
+            modCount++;
+        }
+    }
+
+    /**
+     * Grows the backing array ahead of time, so the next {@code minCapacity - size()}
+     * appends do not reallocate it.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            extendArrayLength(minCapacity);
+            modCount++;
+        }
+    }
+
+    /**
+     * Sets the policy which shrinks the backing array after removals, {@code null} to never shrink it.
+     * The policy is consulted after {@link #remove(int)}, {@link #clear()} and the batch removals.
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Sets the listener notified about resizes, scans and shifts, {@code null} to stop notifying.
+     * Without a listener the list only pays for a field check.
+     *
+     * @see CustomListMetrics
+     */
+    public void setListener(CustomListListener listener) {
+        this.listener = listener;
+        if (listener != null) {
+            listener.attached(array.length);
+        }
+    }
+
+    int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Copies the backing array before writing at {@code index} or after it,
+     * when that part of the array is still shared with a snapshot.
+     */
+    private void copyOnWrite(int index) {
+        if (index < sharedLength) {
+            if (listener != null) {
+                listener.resized(array.length, array.length, array.length);
+            }
+            array = Arrays.copyOf(array, array.length);
+            sharedLength = 0;
+        }
+    }
+
+    /**
+     * Returns an immutable view of the current elements in O(1).
+     * <p>
+     * The view shares the backing array with this list. The list copies the array
+     * once, right before it first overwrites any of the elements the view sees.
+     * Appends write past them and do not copy, neither does taking more snapshots
+     * of an unchanged list. Snapshots are safe to hand over to other threads.
+     */
+    public List<E> snapshot() {
+        sharedLength = Math.max(sharedLength, size);
+        return new ArraySnapshot<>(array, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
 
-    private void extendArrayLength() {
-        Object[] newArray = new Object[array.length * 2];
-        for (int i = 0; i < array.length; i++) {
-            newArray[i] = array[i];
+    /**
+     * Turns the hash index of elements on or off.
+     * <p>
+     * An indexed list answers {@link #contains(Object)} in O(1) and {@link #indexOf(Object)}
+     * in O(1) as long as elements are only appended or replaced. An insertion or removal
+     * which shifts elements costs one more scan for each value looked up afterwards.
+     * The index takes extra memory per distinct value and requires elements
+     * with a hash code consistent with equals.
+     */
+    public void setIndexed(boolean indexed) {
+        if (!indexed) {
+            elementIndex = null;
+        } else if (elementIndex == null) {
+            elementIndex = new ElementIndex();
+            for (int i = 0; i < size; i++) {
+                elementIndex.added(array[i], i);
+            }
+        }
+    }
+
+    public boolean isIndexed() {
+        return elementIndex != null;
+    }
+
+    /**
+     * Rebuilds the element index after elements were moved or replaced in bulk.
+     */
+    private void reindex() {
+        if (elementIndex != null) {
+            elementIndex = null;
+            setIndexed(true);
         }
-        array = newArray;
     }
 
     @Override
@@ -38,48 +228,66 @@ public class CustomList<E> implements List<E> {
 
     @Override
     public boolean contains(Object o) {
-        Object o1;
-        for (int i = 0; i < size; i++) {
-            o1 = array[i];
-            if (o1 == null && o == null) {
-                return true;
-            } else if (o1 != null && o1.equals(o)) {
-                return true;
-            }
+        if (elementIndex != null) {
+            return elementIndex.contains(o);
         }
-        return false;
+        return scanIndexOf(o) >= 0;
     }
 
     @Override
     public Iterator<E> iterator() {
-        return null;
+        return new Itr();
+    }
+
+    /**
+     * @return A new cursor before the first element, meant to be kept and reused with {@link Cursor#reset()}.
+     */
+    public Cursor<E> cursor() {
+        return new ArrayCursor();
     }
 
     @Override
     public Object[] toArray() {
-        return new Object[0];
+        return Arrays.copyOf(array, size);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> T[] toArray(T[] a) {
-        return null;
+        if (a.length < size) {
+            return (T[]) Arrays.copyOf(array, size, a.getClass());
+        }
+
+        System.arraycopy(array, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
     }
 
     @Override
     public boolean add(E e) {
         if (size == array.length) {
-            extendArrayLength();
+            extendArrayLength(size + 1);
+        }
+        array[size] = e;
+        if (elementIndex != null) {
+            elementIndex.added(e, size);
         }
-        array[size++] = e;
+        size++;
+        modCount++;
         return true;
     }
 
     @Override
     public boolean remove(Object o) {
-        if (!contains(o)) {
+        int index = indexOf(o);
+        if (index < 0) {
             return false;
         }
-        return false;
+
+        remove(index);
+        return true;
     }
 
     @Override
@@ -99,27 +307,142 @@ public class CustomList<E> implements List<E> {
 
     @Override
     public boolean addAll(Collection<? extends E> c) {
-        return false;
+        return addAll(size, c);
     }
 
+    /**
+     * Inserts all the elements with a single capacity check, at most one growth and
+     * a single shift of the tail. Elements of another {@code CustomList} are copied
+     * straight from its backing array, any other collection is copied through
+     * its {@link Collection#toArray()}.
+     */
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
-        return false;
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        Object[] elements;
+        int count;
+        if (c == this) {
+            elements = toArray();
+            count = size;
+        } else if (c instanceof CustomList) {
+            CustomList<?> other = (CustomList<?>) c;
+            elements = other.array;
+            count = other.size;
+        } else {
+            elements = c.toArray();
+            count = elements.length;
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        if (size + count > array.length || size + count < 0) {
+            extendArrayLength(size + count);
+        }
+        copyOnWrite(index);
+        if (listener != null && index < size) {
+            listener.insertShifted(size - index);
+        }
+
+        System.arraycopy(array, index, array, index + count, size - index);
+        System.arraycopy(elements, 0, array, index, count);
+        if (elementIndex != null) {
+            if (index < size) {
+                elementIndex.shifted();
+            }
+            for (int i = 0; i < count; i++) {
+                elementIndex.added(elements[i], index + i);
+            }
+        }
+        size += count;
+        modCount++;
+        return true;
     }
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        return false;
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        return batchRemove(i -> c.contains(array[i]));
     }
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        return false;
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        return batchRemove(i -> !c.contains(array[i]));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
-    public void clear() {
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        return batchRemove(i -> filter.test((E) array[i]));
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive,
+     * with a single shift of the tail.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        copyOnWrite(fromIndex);
+        if (elementIndex != null) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                elementIndex.removed(array[i], i, false);
+            }
+            if (toIndex < size) {
+                elementIndex.shifted();
+            }
+        }
 
+        if (listener != null) {
+            listener.removeShifted(size - toIndex);
+        }
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount++;
+        shrinkIfNeeded();
+    }
+
+    @Override
+    public void clear() {
+        if (sharedLength > 0) {
+            if (listener != null) {
+                listener.resized(array.length, array.length, 0);
+            }
+            array = new Object[array.length];
+            sharedLength = 0;
+        } else {
+            Arrays.fill(array, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.cleared();
+        }
+        shrinkIfNeeded();
     }
 
     @SuppressWarnings("unchecked")
@@ -132,44 +455,770 @@ public class CustomList<E> implements List<E> {
         return (E) array[index];
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public E set(int index, E element) {
-        return null;
+        checkIndex(index);
+        copyOnWrite(index);
+
+        E old = (E) array[index];
+        array[index] = element;
+        if (elementIndex != null) {
+            elementIndex.replaced(old, element, index);
+        }
+        return old;
     }
 
     @Override
     public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+        if (size == array.length) {
+            extendArrayLength(size + 1);
+        }
+        copyOnWrite(index);
+        if (listener != null) {
+            listener.insertShifted(size - index);
+        }
 
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = element;
+        size++;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.inserted(element, index);
+        }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public E remove(int index) {
-        return null;
+        checkIndex(index);
+        copyOnWrite(index);
+
+        E old = (E) array[index];
+        int moved = size - index - 1;
+        if (listener != null) {
+            listener.removeShifted(moved);
+        }
+        System.arraycopy(array, index + 1, array, index, moved);
+        array[--size] = null;
+        modCount++;
+        if (elementIndex != null) {
+            elementIndex.removed(old, index, moved > 0);
+        }
+        shrinkIfNeeded();
+        return old;
     }
 
     @Override
     public int indexOf(Object o) {
+        if (elementIndex == null) {
+            return scanIndexOf(o);
+        }
 
-        return 0;
+        int index = elementIndex.firstIndex(o);
+        if (index == ElementIndex.UNKNOWN) {
+            index = scanIndexOf(o);
+            elementIndex.cacheFirstIndex(o, index);
+        }
+        return index;
+    }
+
+    private int scanIndexOf(Object o) {
+        if (listener != null) {
+            int index = ArrayScans.indexOf(array, 0, size, o);
+            listener.scanned(index < 0 ? size : index + 1);
+            return index;
+        }
+        return ArrayScans.indexOf(array, 0, size, o);
     }
 
     @Override
     public int lastIndexOf(Object o) {
-        return 0;
+        if (elementIndex != null && !elementIndex.contains(o)) {
+            return -1;
+        }
+        if (listener != null) {
+            int index = ArrayScans.lastIndexOf(array, 0, size, o);
+            listener.scanned(index < 0 ? size : size - index);
+            return index;
+        }
+        return ArrayScans.lastIndexOf(array, 0, size, o);
+    }
+
+    /**
+     * Returns the indexes of all the elements equal to {@code o}, found in a single pass.
+     *
+     * @return The indexes in ascending order, an empty array when there is no such element.
+     */
+    public int[] indexOfAll(Object o) {
+        if (elementIndex != null && !elementIndex.contains(o)) {
+            return new int[0];
+        }
+        if (listener != null) {
+            listener.scanned(size);
+        }
+        return ArrayScans.indexOfAll(array, 0, size, o);
     }
 
     @Override
     public ListIterator<E> listIterator() {
-        return null;
+        return new ListItr(0);
     }
 
     @Override
     public ListIterator<E> listIterator(int index) {
-        return null;
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return new ListItr(index);
     }
 
+    /**
+     * Returns a view of the elements from {@code fromIndex} inclusive to {@code toIndex} exclusive,
+     * which reads and writes the backing array of this list directly.
+     * <p>
+     * The view fails fast once this list is structurally modified other than through the view.
+     * Views of views address the backing array directly as well, so nesting does not slow down reads.
+     */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        return null;
+        checkSubListRange(fromIndex, toIndex, size);
+
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+    private static void checkSubListRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("From: " + fromIndex + " > To: " + toIndex);
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+
+        int expectedModCount = modCount;
+        Object[] a = array;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept((E) a[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Performs {@code action} for every element and its index, without allocating an iterator.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachIndexed(ObjIntConsumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+
+        int expectedModCount = modCount;
+        Object[] a = array;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept((E) a[i], i);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        if (operator == null) {
+            throw new NullPointerException("The operator cannot be null.");
+        }
+
+        copyOnWrite(0);
+        int expectedModCount = modCount;
+        Object[] a = array;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            a[i] = operator.apply((E) a[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+        reindex();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void sort(Comparator<? super E> c) {
+        copyOnWrite(0);
+        int expectedModCount = modCount;
+        Arrays.sort((E[]) array, 0, size, c);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+        reindex();
+    }
+
+    /**
+     * Performs {@code action} for every element using the fork/join pool of the calling thread,
+     * or the common pool. Elements are visited in no particular order, so the action
+     * has to be thread safe. The list must not be modified until the method returns.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelForEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+
+        int expectedModCount = modCount;
+        Object[] a = array;
+        RangeTask.run((from, to) -> {
+            for (int i = from; i < to; i++) {
+                action.accept((E) a[i]);
+            }
+        }, 0, size, 1);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Replaces every element with the result of {@code operator} in parallel.
+     *
+     * @see #parallelForEach(Consumer)
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        if (operator == null) {
+            throw new NullPointerException("The operator cannot be null.");
+        }
+
+        copyOnWrite(0);
+        int expectedModCount = modCount;
+        Object[] a = array;
+        RangeTask.run((from, to) -> {
+            for (int i = from; i < to; i++) {
+                a[i] = operator.apply((E) a[i]);
+            }
+        }, 0, size, 1);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+        reindex();
+    }
+
+    /**
+     * Tests all the elements with {@code filter} in parallel, then removes the matching ones
+     * in a single sequential pass which keeps the order of the rest.
+     *
+     * @return Whether any element was removed.
+     * @see #parallelForEach(Consumer)
+     */
+    @SuppressWarnings("unchecked")
+    public boolean parallelRemoveIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        int expectedModCount = modCount;
+        Object[] a = array;
+        long[] removed = new long[(size + 63) >>> 6];
+        // Ranges are split at multiples of 64, so every task writes its own words of the bitmap.
+        RangeTask.run((from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (filter.test((E) a[i])) {
+                    removed[i >>> 6] |= 1L << i;
+                }
+            }
+        }, 0, size, 64);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        return batchRemove(i -> (removed[i >>> 6] & (1L << i)) != 0);
+    }
+
+    /**
+     * Sorts the list with {@link Arrays#parallelSort(Object[], int, int, Comparator)}.
+     *
+     * @param c The comparator, or {@code null} for the natural ordering.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super E> c) {
+        copyOnWrite(0);
+        int expectedModCount = modCount;
+        Arrays.parallelSort((E[]) array, 0, size, c);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+        reindex();
+    }
+
+    /**
+     * Removes the elements whose indexes match {@code removed} in a single pass:
+     * kept elements move down once, the freed tail is cleared once and
+     * the list counts a single structural modification.
+     * <p>
+     * When the predicate throws, the elements it did not test yet are kept.
+     *
+     * @return Whether any element was removed.
+     */
+    private boolean batchRemove(IntPredicate removed) {
+        int expectedModCount = modCount;
+        int write = 0;
+        while (write < size && !removed.test(write)) {
+            write++;
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (write == size) {
+            return false;
+        }
+
+        copyOnWrite(write);
+        int firstRemoved = write;
+        int read = write + 1;
+        try {
+            for (; read < size; read++) {
+                if (!removed.test(read)) {
+                    array[write++] = array[read];
+                }
+            }
+        } finally {
+            if (read < size) {
+                System.arraycopy(array, read, array, write, size - read);
+                write += size - read;
+            }
+            if (listener != null) {
+                listener.removeShifted(write - firstRemoved);
+            }
+            Arrays.fill(array, write, size, null);
+            size = write;
+            modCount++;
+            reindex();
+            shrinkIfNeeded();
+        }
+
+        if (modCount != expectedModCount + 1) {
+            throw new ConcurrentModificationException();
+        }
+        return true;
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;
+        int lastReturned = -1;
+        int expectedModCount = modCount;
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+            return (E) array[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            CustomList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("The action cannot be null.");
+            }
+
+            Object[] a = array;
+            int i = cursor;
+            for (; i < size && modCount == expectedModCount; i++) {
+                action.accept((E) a[i]);
+            }
+            cursor = i;
+            lastReturned = i - 1;
+            checkForComodification();
+        }
+    }
+
+    /**
+     * A range of the backing array, addressed by an offset into it.
+     * <p>
+     * Reads go to the backing array directly. Structural changes go through the list and then
+     * update the sizes along the chain of enclosing views, which keeps those views valid.
+     */
+    private final class SubList extends AbstractList<E> implements RandomAccess {
+        private final SubList parent;
+        private final int offset;
+        private int size;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.modCount = CustomList.this.modCount;
+        }
+
+        private void checkForComodification() {
+            if (CustomList.this.modCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+
+        private void checkPositionIndex(int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+
+        private void updateSizeAndModCount(int delta) {
+            for (SubList view = this; view != null; view = view.parent) {
+                view.size += delta;
+                view.modCount = CustomList.this.modCount;
+            }
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E get(int index) {
+            checkIndex(index);
+            checkForComodification();
+            return (E) array[offset + index];
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkIndex(index);
+            checkForComodification();
+            return CustomList.this.set(offset + index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkPositionIndex(index);
+            checkForComodification();
+            CustomList.this.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            checkIndex(index);
+            checkForComodification();
+            E old = CustomList.this.remove(offset + index);
+            updateSizeAndModCount(-1);
+            return old;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            CustomList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            checkPositionIndex(index);
+            checkForComodification();
+            int oldSize = CustomList.this.size;
+            if (!CustomList.this.addAll(offset + index, c)) {
+                return false;
+            }
+            updateSizeAndModCount(CustomList.this.size - oldSize);
+            return true;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            checkForComodification();
+            int index = ArrayScans.indexOf(array, offset, offset + size, o);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            checkForComodification();
+            int index = ArrayScans.lastIndexOf(array, offset, offset + size, o);
+            return index < 0 ? -1 : index - offset;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(array, offset, offset + size);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("The action cannot be null.");
+            }
+
+            checkForComodification();
+            Object[] a = array;
+            for (int i = offset; i < offset + size && modCount == CustomList.this.modCount; i++) {
+                action.accept((E) a[i]);
+            }
+            checkForComodification();
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            checkSubListRange(fromIndex, toIndex, size);
+            checkForComodification();
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    private final class ListItr extends Itr implements ListIterator<E> {
+        private ListItr(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --cursor;
+            return (E) array[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+
+            CustomList.this.set(lastReturned, e);
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            CustomList.this.add(cursor++, e);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class ArrayCursor implements Cursor<E> {
+        private int index = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean advance() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (index + 1 >= size) {
+                index = size;
+                return false;
+            }
+
+            index++;
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E element() {
+            if (index < 0 || index >= size) {
+                throw new IllegalStateException("The cursor is not at an element.");
+            }
+            return (E) array[index];
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+
+        @Override
+        public void reset() {
+            index = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Splits the list by halving index ranges of the backing array. Binds to the list
+     * at the first traversal and fails with {@link ConcurrentModificationException}
+     * when the list was structurally modified after that.
+     */
+    private final class ArraySpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int mid = (index + hi) >>> 1;
+            if (index >= mid) {
+                return null;
+            }
+
+            ArraySpliterator prefix = new ArraySpliterator(index, mid, expectedModCount);
+            index = mid;
+            return prefix;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("The action cannot be null.");
+            }
+
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            if (index >= array.length) {
+                throw new ConcurrentModificationException();
+            }
+
+            E e = (E) array[index++];
+            action.accept(e);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException("The action cannot be null.");
+            }
+
+            int hi = getFence();
+            Object[] a = array;
+            if (hi > a.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = index; i < hi; i++) {
+                action.accept((E) a[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
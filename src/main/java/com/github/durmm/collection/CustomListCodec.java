@@ -0,0 +1,270 @@
+package com.github.durmm.collection;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Writes lists to channels in a compact binary format and reads them back as {@link CustomList}s.
+ * <p>
+ * The stream starts with a header of the magic number, the format version, the element width of
+ * the codec and the amount of elements. The elements follow in chunks, each chunk being its length
+ * in bytes followed by whole elements. Every element is its encoded bytes; when the codec has
+ * a variable width every element is preceded by its length plus one as a variable length integer,
+ * zero standing for {@code null}. Integers are big-endian.
+ * <p>
+ * Writing streams through a buffer of a fixed size and every flush of the buffer ends a chunk,
+ * only an element larger than the buffer grows it. Reading pulls every chunk with a single bulk
+ * read and never consumes bytes past the end of the list, so the channel may carry further messages
+ * after it. The list is presized from the header, up to a configurable limit of 16M elements by default.
+ * The header is not trusted beyond that, a stream claiming more elements or longer chunks than it holds
+ * fails with an {@link EOFException} instead of allocating for all of them up front.
+ *
+ * @param <E> The type of elements in the lists.
+ * @author Gaya Gyulnazaryan
+ */
+public class CustomListCodec<E> {
+    private static final int MAGIC = 0x434C5342;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES + 1;
+    private static final int CHUNK_HEADER_BYTES = Integer.BYTES;
+    private static final int MAX_VAR_INT_BYTES = 5;
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_MAX_PRESIZE = 1 << 24;
+
+    private final ElementCodec<E> codec;
+    private final int bufferSize;
+    private final int maxPresize;
+
+    public CustomListCodec(ElementCodec<E> codec) {
+        this(codec, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CustomListCodec(ElementCodec<E> codec, int bufferSize) {
+        this(codec, bufferSize, DEFAULT_MAX_PRESIZE);
+    }
+
+    /**
+     * @param codec      Encodes the elements.
+     * @param bufferSize The amount of bytes passed to the channel at once.
+     * @param maxPresize The largest capacity reading allocates up front, larger lists grow while reading.
+     */
+    public CustomListCodec(ElementCodec<E> codec, int bufferSize, int maxPresize) {
+        if (codec == null) {
+            throw new NullPointerException("The codec cannot be null.");
+        }
+        if (bufferSize < HEADER_BYTES + CHUNK_HEADER_BYTES + MAX_VAR_INT_BYTES) {
+            throw new IllegalArgumentException("The buffer size is too small: " + bufferSize);
+        }
+        if (maxPresize < 0) {
+            throw new IllegalArgumentException("The presize limit cannot be negative: " + maxPresize);
+        }
+
+        this.codec = codec;
+        this.bufferSize = bufferSize;
+        this.maxPresize = maxPresize;
+    }
+
+    /**
+     * Writes the elements of {@code list} in its iteration order.
+     *
+     * @throws NullPointerException When the codec has a fixed width and the list holds {@code null}.
+     */
+    public void write(Collection<? extends E> list, WritableByteChannel channel) throws IOException {
+        if (list == null) {
+            throw new NullPointerException("The list cannot be null.");
+        }
+        if (channel == null) {
+            throw new NullPointerException("The channel cannot be null.");
+        }
+
+        int size = list.size();
+        int width = codec.width();
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        buffer.putInt(MAGIC).put((byte) VERSION).putInt(width).putInt(size);
+        int chunk = buffer.position();
+        buffer.position(chunk + CHUNK_HEADER_BYTES);
+
+        int written = 0;
+        for (E element : list) {
+            int bytes;
+            if (width != ElementCodec.VARIABLE_WIDTH) {
+                if (element == null) {
+                    throw new NullPointerException("The element cannot be null.");
+                }
+                bytes = width;
+            } else {
+                bytes = element == null ? 1 : MAX_VAR_INT_BYTES + codec.size(element);
+            }
+            if (buffer.remaining() < bytes) {
+                buffer = flush(buffer, chunk, bytes, channel);
+                chunk = 0;
+            }
+
+            if (width != ElementCodec.VARIABLE_WIDTH) {
+                codec.encode(element, buffer);
+            } else if (element == null) {
+                buffer.put((byte) 0);
+            } else {
+                putVarInt(buffer, bytes - MAX_VAR_INT_BYTES + 1);
+                codec.encode(element, buffer);
+            }
+            written++;
+        }
+        if (written != size) {
+            throw new ConcurrentModificationException();
+        }
+
+        endChunk(buffer, chunk);
+        buffer.flip();
+        drain(buffer, channel);
+    }
+
+    /**
+     * Writes the buffer out and starts a new chunk with room for {@code bytes} more bytes,
+     * replacing the buffer with a larger one when needed.
+     */
+    private static ByteBuffer flush(ByteBuffer buffer, int chunk, int bytes, WritableByteChannel channel)
+            throws IOException {
+        endChunk(buffer, chunk);
+        buffer.flip();
+        drain(buffer, channel);
+        buffer.clear();
+        if (bytes > buffer.capacity() - CHUNK_HEADER_BYTES) {
+            buffer = ByteBuffer.allocate(CHUNK_HEADER_BYTES + bytes);
+        }
+        buffer.position(CHUNK_HEADER_BYTES);
+        return buffer;
+    }
+
+    /**
+     * Stores the length of the chunk starting at {@code chunk}, or drops the chunk when it is empty.
+     */
+    private static void endChunk(ByteBuffer buffer, int chunk) {
+        int length = buffer.position() - chunk - CHUNK_HEADER_BYTES;
+        if (length == 0) {
+            buffer.position(chunk);
+        } else {
+            buffer.putInt(chunk, length);
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads a list written by {@link #write} with a compatible codec.
+     *
+     * @throws IOException  When the stream does not hold a list of this codec.
+     * @throws EOFException When the stream ends before the list does.
+     */
+    public CustomList<E> read(ReadableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new NullPointerException("The channel cannot be null.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        buffer.flip();
+        buffer = fill(buffer, HEADER_BYTES, channel);
+        if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+            throw new IOException("The stream does not hold a list.");
+        }
+        int width = buffer.getInt();
+        if (width != codec.width()) {
+            throw new IOException("The stream holds elements of width " + width
+                    + ", but the codec has width " + codec.width() + ".");
+        }
+        int size = buffer.getInt();
+        if (size < 0) {
+            throw new IOException("The stream holds a negative size: " + size);
+        }
+
+        CustomList<E> list = new CustomList<>(Math.min(size, maxPresize));
+        for (int i = 0; i < size; i++) {
+            if (!buffer.hasRemaining()) {
+                buffer = nextChunk(buffer, channel);
+            }
+            int length = width;
+            if (width == ElementCodec.VARIABLE_WIDTH) {
+                length = getVarInt(buffer) - 1;
+                if (length < 0) {
+                    list.add(null);
+                    continue;
+                }
+            }
+            if (length > buffer.remaining()) {
+                throw new IOException("The stream holds a malformed chunk.");
+            }
+            list.add(codec.decode(buffer, length));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("The stream holds a malformed chunk.");
+        }
+        return list;
+    }
+
+    /**
+     * Reads the whole next chunk into the buffer, which held no bytes of the previous chunk anymore.
+     */
+    private static ByteBuffer nextChunk(ByteBuffer buffer, ReadableByteChannel channel) throws IOException {
+        buffer = fill(buffer, CHUNK_HEADER_BYTES, channel);
+        int length = buffer.getInt();
+        if (length <= 0) {
+            throw new IOException("The stream holds a malformed chunk.");
+        }
+        return fill(buffer, length, channel);
+    }
+
+    /**
+     * Reads exactly {@code bytes} bytes into the empty buffer. The buffer is replaced with a larger one
+     * only as the bytes arrive, so a stream claiming a long chunk ends early instead of allocating for all of it.
+     */
+    private static ByteBuffer fill(ByteBuffer buffer, int bytes, ReadableByteChannel channel) throws IOException {
+        buffer.clear();
+        while (buffer.position() < bytes) {
+            if (buffer.position() == buffer.capacity()) {
+                buffer.flip();
+                buffer = ByteBuffer.allocate((int) Math.min(bytes, 2L * buffer.capacity())).put(buffer);
+            }
+            buffer.limit(Math.min(buffer.capacity(), bytes));
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("The stream ended before the list.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 7 * MAX_VAR_INT_BYTES && buffer.hasRemaining(); shift += 7) {
+            byte b = buffer.get();
+            if (shift == 7 * (MAX_VAR_INT_BYTES - 1) && (b & 0x70) != 0) {
+                break;
+            }
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("The stream holds a malformed length.");
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.durmm.collection;
+
+/**
+ * Receives the events of the hot paths of a {@link CustomList}, see {@link CustomList#setListener}.
+ * <p>
+ * The callbacks run inline on the thread modifying the list, so they have to be cheap.
+ * All of them do nothing by default.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+public interface CustomListListener {
+
+    /**
+     * The listener was set on a list, called once from {@link CustomList#setListener}.
+     *
+     * @param capacity The length of the backing array at that time.
+     */
+    default void attached(int capacity) {
+    }
+
+    /**
+     * The backing array was reallocated. This includes the copies made before overwriting elements
+     * a {@link CustomList#snapshot()} still shares, then both capacities are equal.
+     *
+     * @param oldCapacity The length of the old backing array.
+     * @param newCapacity The length of the new backing array.
+     * @param copied      The amount of elements copied into the new backing array.
+     */
+    default void resized(int oldCapacity, int newCapacity, int copied) {
+    }
+
+    /**
+     * A linear scan of {@code contains}, {@code indexOf} or {@code lastIndexOf} compared {@code length} elements.
+     */
+    default void scanned(int length) {
+    }
+
+    /**
+     * An insertion moved {@code distance} elements towards the end of the list.
+     */
+    default void insertShifted(int distance) {
+    }
+
+    /**
+     * A removal moved {@code distance} elements towards the start of the list.
+     */
+    default void removeShifted(int distance) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.durmm.collection;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts the events of one or more lists and publishes them as an MBean.
+ * <p>
+ * The counters are thread safe, so a single instance can aggregate the lists of a whole component.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+public class CustomListMetrics implements CustomListListener, CustomListMetricsMBean {
+
+    /**
+     * The size of an element reference in the backing array, assuming compressed oops.
+     */
+    static final int REFERENCE_BYTES = 4;
+
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+    private final LongAdder scans = new LongAdder();
+    private final LongAdder scannedElements = new LongAdder();
+    private final LongAdder inserts = new LongAdder();
+    private final LongAdder insertShifted = new LongAdder();
+    private final LongAdder removes = new LongAdder();
+    private final LongAdder removeShifted = new LongAdder();
+
+    /**
+     * Registers the metrics in the platform MBean server
+     * as {@code com.github.durmm.collection:type=CustomList,name=<name>}.
+     *
+     * @return The name the metrics are registered with.
+     * @throws JMException When the name is malformed or already taken.
+     */
+    public ObjectName register(String name) throws JMException {
+        if (name == null) {
+            throw new NullPointerException("The name cannot be null.");
+        }
+
+        ObjectName objectName = new ObjectName("com.github.durmm.collection:type=CustomList,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public void attached(int capacity) {
+        peakCapacity.accumulate(capacity);
+    }
+
+    @Override
+    public void resized(int oldCapacity, int newCapacity, int copied) {
+        resizes.increment();
+        copiedElements.add(copied);
+        peakCapacity.accumulate(Math.max(oldCapacity, newCapacity));
+    }
+
+    @Override
+    public void scanned(int length) {
+        scans.increment();
+        scannedElements.add(length);
+    }
+
+    @Override
+    public void insertShifted(int distance) {
+        inserts.increment();
+        insertShifted.add(distance);
+    }
+
+    @Override
+    public void removeShifted(int distance) {
+        removes.increment();
+        removeShifted.add(distance);
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getCopiedElements() {
+        return copiedElements.sum();
+    }
+
+    @Override
+    public long getCopiedBytes() {
+        return copiedElements.sum() * REFERENCE_BYTES;
+    }
+
+    @Override
+    public int getPeakCapacity() {
+        return (int) peakCapacity.get();
+    }
+
+    @Override
+    public long getScanCount() {
+        return scans.sum();
+    }
+
+    @Override
+    public double getAverageScanLength() {
+        return average(scannedElements, scans);
+    }
+
+    @Override
+    public long getInsertCount() {
+        return inserts.sum();
+    }
+
+    @Override
+    public double getAverageInsertShift() {
+        return average(insertShifted, inserts);
+    }
+
+    @Override
+    public long getRemoveCount() {
+        return removes.sum();
+    }
+
+    @Override
+    public double getAverageRemoveShift() {
+        return average(removeShifted, removes);
+    }
+
+    @Override
+    public void reset() {
+        resizes.reset();
+        copiedElements.reset();
+        peakCapacity.reset();
+        scans.reset();
+        scannedElements.reset();
+        inserts.reset();
+        insertShifted.reset();
+        removes.reset();
+        removeShifted.reset();
+    }
+
+    private static double average(LongAdder total, LongAdder count) {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) total.sum() / n;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.durmm.collection;
+
+/**
+ * The JMX view of {@link CustomListMetrics}.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+public interface CustomListMetricsMBean {
+
+    long getResizeCount();
+
+    long getCopiedElements();
+
+    long getCopiedBytes();
+
+    int getPeakCapacity();
+
+    long getScanCount();
+
+    double getAverageScanLength();
+
+    long getInsertCount();
+
+    double getAverageInsertShift();
+
+    long getRemoveCount();
+
+    double getAverageRemoveShift();
+
+    void reset();
+}
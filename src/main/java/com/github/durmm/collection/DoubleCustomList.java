@@ -0,0 +1,227 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of {@code double} values kept in a {@code double[]} without boxing.
+ * <p>
+ * Use {@link #asList()} to pass the values to an API expecting {@link List},
+ * the view boxes values only when they are read through it.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+public class DoubleCustomList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final GrowthPolicy growthPolicy;
+    private double[] array;
+    private int size;
+    private BoxedView view;
+
+    public DoubleCustomList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    public DoubleCustomList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    public DoubleCustomList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_CAPACITY, growthPolicy);
+    }
+
+    /**
+     * @param initialCapacity The initial length of the backing array.
+     * @param growthPolicy    Decides how much the backing array grows when it is full.
+     */
+    public DoubleCustomList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        this.array = new double[initialCapacity];
+        this.growthPolicy = growthPolicy;
+    }
+
+    private void extendArrayLength(int minLength) {
+        if (minLength < 0 || minLength > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length is too large.");
+        }
+
+        int newLength = Math.max(growthPolicy.newCapacity(array.length, minLength), minLength);
+        array = Arrays.copyOf(array, newLength);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Lets the iterators of the {@link #asList()} view fail fast on changes made directly to this list.
+     */
+    private void structurallyModified() {
+        if (view != null) {
+            view.structurallyModified();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void addDouble(double value) {
+        if (size == array.length) {
+            extendArrayLength(size + 1);
+        }
+        array[size++] = value;
+        structurallyModified();
+    }
+
+    public void addDouble(int index, double value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == array.length) {
+            extendArrayLength(size + 1);
+        }
+
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+        structurallyModified();
+    }
+
+    public double getDouble(int index) {
+        checkIndex(index);
+
+        return array[index];
+    }
+
+    /**
+     * @return The value previously stored at {@code index}.
+     */
+    public double setDouble(int index, double value) {
+        checkIndex(index);
+
+        double old = array[index];
+        array[index] = value;
+        return old;
+    }
+
+    /**
+     * @return The removed value.
+     */
+    public double removeDoubleAt(int index) {
+        checkIndex(index);
+
+        double old = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        structurallyModified();
+        return old;
+    }
+
+    /**
+     * Values are compared like {@link Double#equals(Object)} does, so {@code NaN}
+     * is found and {@code 0.0} is different from {@code -0.0}.
+     */
+    public boolean containsDouble(double value) {
+        return indexOfDouble(value) >= 0;
+    }
+
+    /**
+     * @return The index of the first occurrence of {@code value} or -1 when there is none.
+     */
+    public int indexOfDouble(double value) {
+        return ArrayScans.indexOf(array, 0, size, value);
+    }
+
+    /**
+     * @return The index of the last occurrence of {@code value} or -1 when there is none.
+     */
+    public int lastIndexOfDouble(double value) {
+        return ArrayScans.lastIndexOf(array, 0, size, value);
+    }
+
+    public void clear() {
+        size = 0;
+        structurallyModified();
+    }
+
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * @return A modifiable {@link List} view over this list which boxes values on access.
+     */
+    public List<Double> asList() {
+        if (view == null) {
+            view = new BoxedView();
+        }
+        return view;
+    }
+
+    private class BoxedView extends AbstractList<Double> implements RandomAccess {
+        void structurallyModified() {
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Double get(int index) {
+            return getDouble(index);
+        }
+
+        @Override
+        public Double set(int index, Double element) {
+            return setDouble(index, element);
+        }
+
+        @Override
+        public void add(int index, Double element) {
+            addDouble(index, element);
+        }
+
+        @Override
+        public Double remove(int index) {
+            return removeDoubleAt(index);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Double && containsDouble((Double) o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Double ? indexOfDouble((Double) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Double ? lastIndexOfDouble((Double) o) : -1;
+        }
+
+        @Override
+        public void clear() {
+            DoubleCustomList.this.clear();
+        }
+    }
+}
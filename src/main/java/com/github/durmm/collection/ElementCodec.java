@@ -0,0 +1,146 @@
+package com.github.durmm.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes elements of one type for {@link CustomListCodec}.
+ * <p>
+ * Unlike {@link FixedWidthCodec} the encoded length may depend on the element; the stream then
+ * stores the length in front of every element, so the codec itself does not need to frame its bytes.
+ * Codecs use relative {@link ByteBuffer} access and never see {@code null} elements.
+ *
+ * @param <E> The type of encoded elements.
+ * @author Gaya Gyulnazaryan
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * The {@link #width()} of codecs whose encoded length depends on the element.
+     */
+    int VARIABLE_WIDTH = -1;
+
+    /**
+     * @return The amount of bytes every element takes, or {@link #VARIABLE_WIDTH}.
+     */
+    default int width() {
+        return VARIABLE_WIDTH;
+    }
+
+    /**
+     * @return The amount of bytes {@link #encode} writes for {@code element}.
+     */
+    int size(E element);
+
+    /**
+     * Writes {@code element} at the position of {@code buffer}, which has at least {@link #size} bytes remaining.
+     */
+    void encode(E element, ByteBuffer buffer);
+
+    /**
+     * Reads an element of {@code length} bytes from the position of {@code buffer}.
+     */
+    E decode(ByteBuffer buffer, int length);
+
+    /**
+     * Adapts a fixed width codec, its elements are stored without a length.
+     */
+    static <E> ElementCodec<E> fixed(FixedWidthCodec<E> codec) {
+        if (codec == null) {
+            throw new NullPointerException("The codec cannot be null.");
+        }
+
+        return new ElementCodec<E>() {
+            @Override
+            public int width() {
+                return codec.width();
+            }
+
+            @Override
+            public int size(E element) {
+                return codec.width();
+            }
+
+            @Override
+            public void encode(E element, ByteBuffer buffer) {
+                codec.encode(element, buffer, buffer.position());
+                buffer.position(buffer.position() + codec.width());
+            }
+
+            @Override
+            public E decode(ByteBuffer buffer, int length) {
+                E element = codec.decode(buffer, buffer.position());
+                buffer.position(buffer.position() + length);
+                return element;
+            }
+        };
+    }
+
+    static ElementCodec<String> utf8() {
+        return new ElementCodec<String>() {
+            @Override
+            public int size(String element) {
+                int size = 0;
+                for (int i = 0; i < element.length(); i++) {
+                    char c = element.charAt(i);
+                    if (c < 0x80) {
+                        size += 1;
+                    } else if (c < 0x800) {
+                        size += 2;
+                    } else if (Character.isHighSurrogate(c) && i + 1 < element.length()
+                            && Character.isLowSurrogate(element.charAt(i + 1))) {
+                        size += 4;
+                        i++;
+                    } else if (Character.isSurrogate(c)) {
+                        // An unpaired surrogate is encoded as '?'
+                        size += 1;
+                    } else {
+                        size += 3;
+                    }
+                }
+                return size;
+            }
+
+            @Override
+            public void encode(String element, ByteBuffer buffer) {
+                buffer.put(element.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer, int length) {
+                String element;
+                if (buffer.hasArray()) {
+                    element = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                            StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + length);
+                } else {
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    element = new String(bytes, StandardCharsets.UTF_8);
+                }
+                return element;
+            }
+        };
+    }
+
+    static ElementCodec<byte[]> bytes() {
+        return new ElementCodec<byte[]>() {
+            @Override
+            public int size(byte[] element) {
+                return element.length;
+            }
+
+            @Override
+            public void encode(byte[] element, ByteBuffer buffer) {
+                buffer.put(element);
+            }
+
+            @Override
+            public byte[] decode(ByteBuffer buffer, int length) {
+                byte[] element = new byte[length];
+                buffer.get(element);
+                return element;
+            }
+        };
+    }
+}
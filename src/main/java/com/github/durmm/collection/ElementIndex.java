@@ -0,0 +1,119 @@
+package com.github.durmm.collection;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index of list elements: the amount of occurrences of every value and
+ * the position of its first occurrence.
+ * <p>
+ * Counts are always exact, so misses are answered without touching the list.
+ * First positions are cached lazily: any change which shifts elements invalidates
+ * all of them at once by moving to a new epoch, and the list rescans a value
+ * the next time it is looked up. Appends keep all cached positions valid.
+ * <p>
+ * Lookups use {@link Object#hashCode()}, so elements must have a hash code consistent with equals.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+final class ElementIndex {
+
+    /**
+     * Returned by {@link #firstIndex(Object)} when the value is present but its position is not known.
+     */
+    static final int UNKNOWN = -2;
+
+    private static final class Entry {
+        private int count;
+        private int first;
+        private int epoch;
+    }
+
+    private final Map<Object, Entry> entries = new HashMap<>();
+    private int epoch;
+
+    boolean contains(Object o) {
+        return entries.containsKey(o);
+    }
+
+    /**
+     * @return The position of the first occurrence, -1 when the value is absent
+     * or {@link #UNKNOWN} when the list has to find it.
+     */
+    int firstIndex(Object o) {
+        Entry entry = entries.get(o);
+        if (entry == null) {
+            return -1;
+        }
+        return entry.epoch == epoch ? entry.first : UNKNOWN;
+    }
+
+    /**
+     * Remembers the position the list found for a value returned as {@link #UNKNOWN}.
+     */
+    void cacheFirstIndex(Object o, int position) {
+        Entry entry = entries.get(o);
+        if (entry != null) {
+            entry.first = position;
+            entry.epoch = epoch;
+        }
+    }
+
+    /**
+     * A value was stored at {@code position} without moving any other element.
+     */
+    void added(Object o, int position) {
+        Entry entry = entries.get(o);
+        if (entry == null) {
+            entry = new Entry();
+            entry.first = position;
+            entry.epoch = epoch;
+            entries.put(o, entry);
+        } else if (entry.epoch == epoch && position < entry.first) {
+            entry.first = position;
+        }
+        entry.count++;
+    }
+
+    /**
+     * A value was inserted at {@code position} and the elements after it moved by one.
+     */
+    void inserted(Object o, int position) {
+        shifted();
+        added(o, position);
+    }
+
+    /**
+     * Elements were moved, so no cached position can be trusted anymore.
+     */
+    void shifted() {
+        epoch++;
+    }
+
+    /**
+     * A value was removed from {@code position}.
+     *
+     * @param shifted Whether the elements after it moved into its place.
+     */
+    void removed(Object o, int position, boolean shifted) {
+        Entry entry = entries.get(o);
+        if (--entry.count == 0) {
+            entries.remove(o);
+        } else if (entry.first == position) {
+            entry.epoch = epoch - 1;
+        }
+
+        if (shifted) {
+            epoch++;
+        }
+    }
+
+    void replaced(Object old, Object o, int position) {
+        removed(old, position, false);
+        added(o, position);
+    }
+
+    void cleared() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.durmm.collection;
+
+/**
+ * Decides which element a full {@link BoundedCustomList} evicts to make room for a new one.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Evicts the element added the longest time ago.
+     */
+    FIFO,
+
+    /**
+     * Evicts the element accessed the longest time ago. Adding, {@link BoundedCustomList#get(int)},
+     * {@link BoundedCustomList#set(int, Object)} and finding an element by value count as an access,
+     * iteration does not.
+     */
+    LRU
+}
@@ -0,0 +1,87 @@
+package com.github.durmm.collection;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes elements into a fixed amount of bytes, so a list can address them by index.
+ * <p>
+ * Codecs use absolute {@link ByteBuffer} access only and must not change
+ * the position or the limit of the buffer they are given.
+ *
+ * @param <E> The type of encoded elements.
+ * @author Gaya Gyulnazaryan
+ */
+public interface FixedWidthCodec<E> {
+
+    /**
+     * @return The amount of bytes each element takes, always the same for a codec.
+     */
+    int width();
+
+    /**
+     * Writes {@code element} into {@code buffer} starting at {@code offset}.
+     */
+    void encode(E element, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads an element from {@code buffer} starting at {@code offset}.
+     */
+    E decode(ByteBuffer buffer, int offset);
+
+    static FixedWidthCodec<Integer> ints() {
+        return new FixedWidthCodec<Integer>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer buffer, int offset) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    static FixedWidthCodec<Long> longs() {
+        return new FixedWidthCodec<Long>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void encode(Long element, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, element);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    static FixedWidthCodec<Double> doubles() {
+        return new FixedWidthCodec<Double>() {
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void encode(Double element, ByteBuffer buffer, int offset) {
+                buffer.putDouble(offset, element);
+            }
+
+            @Override
+            public Double decode(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+        };
+    }
+}
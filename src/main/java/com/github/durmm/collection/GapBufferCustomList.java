@@ -0,0 +1,161 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list which keeps a movable gap of free slots inside its backing array.
+ * <p>
+ * Insertions and removals happen at the gap: the gap is moved to the edited position first,
+ * which shifts only the elements between the old and the new position. Edits clustered
+ * around the same position therefore cost O(1) amortized instead of O(n),
+ * like in a text editor buffer. {@link #get(int)} stays O(1) by skipping over the gap.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class GapBufferCustomList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final GrowthPolicy growthPolicy;
+    private Object[] array;
+    private int gapStart;
+    private int gapEnd;
+
+    public GapBufferCustomList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * @param initialCapacity The initial length of the backing array.
+     * @param growthPolicy    Decides how much the backing array grows when the gap is closed.
+     */
+    public GapBufferCustomList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        this.array = new Object[initialCapacity];
+        this.growthPolicy = growthPolicy;
+        this.gapEnd = initialCapacity;
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    /**
+     * Moves the gap to start at the logical {@code index}, clearing the slots it leaves behind.
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(array, index, array, gapEnd - count, count);
+            Arrays.fill(array, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            Arrays.fill(array, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Grows the array around the closed gap, the elements after it move to the end.
+     */
+    private void extendArrayLength() {
+        int minLength = array.length + 1;
+        if (minLength < 0 || minLength > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length is too large.");
+        }
+
+        int newLength = Math.max(growthPolicy.newCapacity(array.length, minLength), minLength);
+        Object[] newArray = new Object[newLength];
+        int tail = array.length - gapEnd;
+        System.arraycopy(array, 0, newArray, 0, gapStart);
+        System.arraycopy(array, gapEnd, newArray, newLength - tail, tail);
+        array = newArray;
+        gapEnd = newLength - tail;
+    }
+
+    @Override
+    public int size() {
+        return array.length - gapLength();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        return (E) array[physical(index)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+
+        int position = physical(index);
+        E old = (E) array[position];
+        array[position] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        add(size(), e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        moveGap(index);
+        if (gapStart == gapEnd) {
+            extendArrayLength();
+        }
+        array[gapStart++] = element;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        moveGap(index);
+        E old = (E) array[gapEnd];
+        array[gapEnd++] = null;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(array, null);
+        gapStart = 0;
+        gapEnd = array.length;
+        modCount++;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.durmm.collection;
+
+/**
+ * Decides how much the backing array of a list grows when it runs out of space.
+ * <p>
+ * Implementations only compute the new capacity, the list itself does the copying.
+ * The returned capacity may be smaller than requested, in that case the list falls
+ * back to the minimal capacity it needs.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * The largest array some VMs are able to allocate.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * @param capacity    The current length of the backing array.
+     * @param minCapacity The length the backing array needs at least.
+     * @return The new length of the backing array.
+     */
+    int newCapacity(int capacity, int minCapacity);
+
+    /**
+     * Doubles the capacity, the cheapest amortized cost per append
+     * at the price of up to a half of the array being unused.
+     */
+    static GrowthPolicy doubling() {
+        return (capacity, minCapacity) -> clamp((long) capacity << 1);
+    }
+
+    /**
+     * Grows the capacity by a half, like {@link java.util.ArrayList} does.
+     */
+    static GrowthPolicy oneAndHalf() {
+        return (capacity, minCapacity) -> clamp(capacity + ((long) capacity >> 1));
+    }
+
+    /**
+     * Grows the capacity by a constant amount of elements.
+     * Appends cost O(n) amortized, so use it only for lists with a known upper bound.
+     *
+     * @param step The amount of elements to add on each growth.
+     */
+    static GrowthPolicy fixedStep(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("The step must be positive: " + step);
+        }
+        return (capacity, minCapacity) -> clamp((long) capacity + step);
+    }
+
+    /**
+     * Doubles the capacity until it reaches {@code maxWaste}, then grows by {@code maxWaste}
+     * elements at a time. Huge lists never keep more than {@code maxWaste} unused slots,
+     * while small lists still grow geometrically.
+     *
+     * @param maxWaste The largest amount of unused slots a single growth may add.
+     */
+    static GrowthPolicy cappedWaste(int maxWaste) {
+        if (maxWaste <= 0) {
+            throw new IllegalArgumentException("The waste limit must be positive: " + maxWaste);
+        }
+        return (capacity, minCapacity) -> clamp((long) capacity + Math.min(capacity, maxWaste));
+    }
+
+    static int clamp(long capacity) {
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,223 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of {@code int} values kept in an {@code int[]} without boxing.
+ * <p>
+ * Use {@link #asList()} to pass the values to an API expecting {@link List},
+ * the view boxes values only when they are read through it.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+public class IntCustomList {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final GrowthPolicy growthPolicy;
+    private int[] array;
+    private int size;
+    private BoxedView view;
+
+    public IntCustomList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    public IntCustomList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.doubling());
+    }
+
+    public IntCustomList(GrowthPolicy growthPolicy) {
+        this(DEFAULT_CAPACITY, growthPolicy);
+    }
+
+    /**
+     * @param initialCapacity The initial length of the backing array.
+     * @param growthPolicy    Decides how much the backing array grows when it is full.
+     */
+    public IntCustomList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        this.array = new int[initialCapacity];
+        this.growthPolicy = growthPolicy;
+    }
+
+    private void extendArrayLength(int minLength) {
+        if (minLength < 0 || minLength > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length is too large.");
+        }
+
+        int newLength = Math.max(growthPolicy.newCapacity(array.length, minLength), minLength);
+        array = Arrays.copyOf(array, newLength);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Lets the iterators of the {@link #asList()} view fail fast on changes made directly to this list.
+     */
+    private void structurallyModified() {
+        if (view != null) {
+            view.structurallyModified();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void addInt(int value) {
+        if (size == array.length) {
+            extendArrayLength(size + 1);
+        }
+        array[size++] = value;
+        structurallyModified();
+    }
+
+    public void addInt(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == array.length) {
+            extendArrayLength(size + 1);
+        }
+
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+        structurallyModified();
+    }
+
+    public int getInt(int index) {
+        checkIndex(index);
+
+        return array[index];
+    }
+
+    /**
+     * @return The value previously stored at {@code index}.
+     */
+    public int setInt(int index, int value) {
+        checkIndex(index);
+
+        int old = array[index];
+        array[index] = value;
+        return old;
+    }
+
+    /**
+     * @return The removed value.
+     */
+    public int removeIntAt(int index) {
+        checkIndex(index);
+
+        int old = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        structurallyModified();
+        return old;
+    }
+
+    public boolean containsInt(int value) {
+        return indexOfInt(value) >= 0;
+    }
+
+    /**
+     * @return The index of the first occurrence of {@code value} or -1 when there is none.
+     */
+    public int indexOfInt(int value) {
+        return ArrayScans.indexOf(array, 0, size, value);
+    }
+
+    /**
+     * @return The index of the last occurrence of {@code value} or -1 when there is none.
+     */
+    public int lastIndexOfInt(int value) {
+        return ArrayScans.lastIndexOf(array, 0, size, value);
+    }
+
+    public void clear() {
+        size = 0;
+        structurallyModified();
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * @return A modifiable {@link List} view over this list which boxes values on access.
+     */
+    public List<Integer> asList() {
+        if (view == null) {
+            view = new BoxedView();
+        }
+        return view;
+    }
+
+    private class BoxedView extends AbstractList<Integer> implements RandomAccess {
+        void structurallyModified() {
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return getInt(index);
+        }
+
+        @Override
+        public Integer set(int index, Integer element) {
+            return setInt(index, element);
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            addInt(index, element);
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return removeIntAt(index);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && containsInt((Integer) o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return o instanceof Integer ? lastIndexOfInt((Integer) o) : -1;
+        }
+
+        @Override
+        public void clear() {
+            IntCustomList.this.clear();
+        }
+    }
+}
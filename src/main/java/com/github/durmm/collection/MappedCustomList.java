@@ -0,0 +1,184 @@
+package com.github.durmm.collection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An {@link OffHeapCustomList} which keeps its segments in a memory-mapped file.
+ * <p>
+ * The file starts with a small header holding the element width and the size of the list,
+ * followed by the encoded elements. Appends grow the file segment by segment.
+ * Reopening a file maps it in place and does not read the elements,
+ * so it takes the same time for any size of the list.
+ * <p>
+ * Changes reach the file when the operating system writes the mapped pages back,
+ * call {@link #force()} to write them synchronously. The list must not be used after {@link #close()}.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class MappedCustomList<E> extends OffHeapCustomList<E> implements Closeable {
+
+    private static final int MAGIC = 0x434C5354;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int DEFAULT_SEGMENT_BYTES = 1 << 26;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+    private MappedByteBuffer[] mapped = new MappedByteBuffer[4];
+
+    private MappedCustomList(FileChannel channel, FixedWidthCodec<E> codec, int elementsPerSegment) throws IOException {
+        super(codec, elementsPerSegment);
+
+        this.channel = channel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        this.header.order(order);
+    }
+
+    /**
+     * Opens the list stored in {@code file} or creates an empty one when the file does not exist.
+     * Uses segments of about 64 megabytes.
+     */
+    public static <E> MappedCustomList<E> open(Path file, FixedWidthCodec<E> codec) throws IOException {
+        return open(file, codec, elementsPerSegment(codec, DEFAULT_SEGMENT_BYTES));
+    }
+
+    /**
+     * Opens the list stored in {@code file} or creates an empty one when the file does not exist.
+     *
+     * @param file               The file holding the list.
+     * @param codec              Encodes and decodes the elements, must have the width the file was created with.
+     * @param elementsPerSegment The amount of elements mapped at once, must be a power of two.
+     * @throws IOException When the file cannot be mapped or does not hold a list of this codec width.
+     */
+    public static <E> MappedCustomList<E> open(Path file, FixedWidthCodec<E> codec, int elementsPerSegment)
+            throws IOException {
+        checkCodec(codec);
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            MappedCustomList<E> list = new MappedCustomList<>(channel, codec, elementsPerSegment);
+            if (created) {
+                list.writeHeader(codec.width());
+            } else {
+                list.restore(list.readHeader(codec.width()));
+            }
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void writeHeader(int width) {
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(WIDTH_OFFSET, width);
+        header.putInt(SIZE_OFFSET, 0);
+    }
+
+    /**
+     * @return The size of the stored list, never more than the elements the file has room for.
+     */
+    private int readHeader(int width) throws IOException {
+        if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("The file does not hold a list.");
+        }
+        if (header.getInt(WIDTH_OFFSET) != width) {
+            throw new IOException("The file holds elements of width " + header.getInt(WIDTH_OFFSET)
+                    + ", but the codec has width " + width + ".");
+        }
+        int size = header.getInt(SIZE_OFFSET);
+        if (size < 0 || size > (channel.size() - HEADER_BYTES) / width) {
+            throw new IOException("The file holds a corrupt size: " + size);
+        }
+        return size;
+    }
+
+    private void writeSize() {
+        header.putInt(SIZE_OFFSET, size());
+    }
+
+    /**
+     * Maps the file region of the segment, extending the file when the region is past its end.
+     */
+    @Override
+    protected ByteBuffer allocateSegment(int segment, int bytes) {
+        try {
+            long position = HEADER_BYTES + (long) segment * bytes;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, bytes);
+            if (segment >= mapped.length) {
+                mapped = Arrays.copyOf(mapped, Math.max(mapped.length * 2, segment + 1));
+            }
+            mapped[segment] = buffer;
+            return buffer.order(order);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean add(E e) {
+        super.add(e);
+        writeSize();
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        super.add(index, element);
+        writeSize();
+    }
+
+    @Override
+    public E remove(int index) {
+        E old = super.remove(index);
+        writeSize();
+        return old;
+    }
+
+    /**
+     * Empties the list, the file keeps its length and the space is reused by later appends.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        writeSize();
+    }
+
+    /**
+     * Writes the header and all the elements to the storage device.
+     */
+    public void force() {
+        for (MappedByteBuffer buffer : mapped) {
+            if (buffer != null) {
+                buffer.force();
+            }
+        }
+        header.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            channel.close();
+        }
+    }
+}
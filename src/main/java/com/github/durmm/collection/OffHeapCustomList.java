@@ -0,0 +1,249 @@
+package com.github.durmm.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A list which keeps its elements outside of the Java heap, encoded by a {@link FixedWidthCodec}
+ * into direct {@link ByteBuffer} segments.
+ * <p>
+ * Only the segment directory lives on the heap, so the size of the list does not affect
+ * GC pause times. Every {@link #get(int)} decodes a new element instance, so lists of
+ * small value-like records work best. Elements are stored by value: changing an element
+ * after adding it does not change the list.
+ * <p>
+ * Segments are released by the garbage collector once the list or {@link #clear()} drops them.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class OffHeapCustomList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int DEFAULT_SEGMENT_BYTES = 1 << 20;
+    private static final int MOVE_BLOCK_BYTES = 1 << 13;
+
+    private final FixedWidthCodec<E> codec;
+    private final int width;
+    private final int shift;
+    private final int mask;
+    private final int segmentBytes;
+    private ByteBuffer[] segments = new ByteBuffer[4];
+    private byte[] moveBlock;
+    private ByteBuffer encoded;
+    private int size;
+
+    /**
+     * Uses segments of about one megabyte.
+     */
+    public OffHeapCustomList(FixedWidthCodec<E> codec) {
+        this(codec, elementsPerSegment(codec, DEFAULT_SEGMENT_BYTES));
+    }
+
+    /**
+     * @param codec               Encodes and decodes the elements.
+     * @param elementsPerSegment  The amount of elements in a single segment, must be a power of two.
+     */
+    public OffHeapCustomList(FixedWidthCodec<E> codec, int elementsPerSegment) {
+        checkCodec(codec);
+        if (elementsPerSegment <= 0 || Integer.bitCount(elementsPerSegment) != 1) {
+            throw new IllegalArgumentException("The segment size must be a power of two: " + elementsPerSegment);
+        }
+        if ((long) elementsPerSegment * codec.width() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The segment does not fit into a single buffer.");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+        this.shift = Integer.numberOfTrailingZeros(elementsPerSegment);
+        this.mask = elementsPerSegment - 1;
+        this.segmentBytes = elementsPerSegment * width;
+    }
+
+    static void checkCodec(FixedWidthCodec<?> codec) {
+        if (codec == null) {
+            throw new NullPointerException("The codec cannot be null.");
+        }
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("The codec width must be positive: " + codec.width());
+        }
+    }
+
+    /**
+     * @return The largest power of two of elements of {@code codec} fitting into {@code segmentBytes}, at least one.
+     */
+    static int elementsPerSegment(FixedWidthCodec<?> codec, int segmentBytes) {
+        checkCodec(codec);
+        return Integer.highestOneBit(Math.max(1, segmentBytes / codec.width()));
+    }
+
+    private void ensureSegment(int index) {
+        int segment = index >>> shift;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        }
+        if (segments[segment] == null) {
+            segments[segment] = allocateSegment(segment, segmentBytes);
+        }
+    }
+
+    /**
+     * Allocates the storage of a segment. Subclasses may keep segments elsewhere,
+     * for example in a memory-mapped file.
+     *
+     * @param segment The index of the segment in the list.
+     * @param bytes   The capacity of the segment.
+     */
+    protected ByteBuffer allocateSegment(int segment, int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Makes the first {@code size} elements of the storage part of the list without encoding them.
+     * Used by subclasses which reopen segments holding elements written earlier.
+     */
+    protected void restore(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size cannot be negative: " + size);
+        }
+
+        for (int index = 0; index < size; index += mask + 1) {
+            ensureSegment(index);
+        }
+        this.size = size;
+        modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private long address(int index) {
+        return (long) index * width;
+    }
+
+    /**
+     * Copies {@code length} bytes between a byte array and the segments,
+     * starting at the byte {@code address} of the list.
+     */
+    private void transfer(long address, byte[] bytes, int length, boolean write) {
+        int done = 0;
+        while (done < length) {
+            ByteBuffer segment = segments[(int) (address / segmentBytes)].duplicate();
+            int offset = (int) (address % segmentBytes);
+            int count = Math.min(length - done, segmentBytes - offset);
+
+            segment.position(offset);
+            if (write) {
+                segment.put(bytes, done, count);
+            } else {
+                segment.get(bytes, done, count);
+            }
+            done += count;
+            address += count;
+        }
+    }
+
+    /**
+     * Moves a byte range of the list, the ranges may overlap.
+     */
+    private void moveBytes(long from, long to, long length) {
+        if (moveBlock == null) {
+            moveBlock = new byte[MOVE_BLOCK_BYTES];
+        }
+
+        if (to > from) {
+            for (long remaining = length; remaining > 0; ) {
+                int count = (int) Math.min(remaining, moveBlock.length);
+                remaining -= count;
+                transfer(from + remaining, moveBlock, count, false);
+                transfer(to + remaining, moveBlock, count, true);
+            }
+        } else {
+            for (long done = 0; done < length; ) {
+                int count = (int) Math.min(length - done, moveBlock.length);
+                transfer(from + done, moveBlock, count, false);
+                transfer(to + done, moveBlock, count, true);
+                done += count;
+            }
+        }
+    }
+
+    /**
+     * Encodes the element into a heap buffer with the byte order of the segments,
+     * so a codec which fails does not leave a half shifted list or a half written element behind.
+     */
+    private byte[] encodeToHeap(E element, ByteOrder order) {
+        if (encoded == null) {
+            encoded = ByteBuffer.allocate(width);
+        }
+
+        encoded.order(order);
+        codec.encode(element, encoded, 0);
+        return encoded.array();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        return codec.decode(segments[index >>> shift], (index & mask) * width);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E old = get(index);
+        byte[] bytes = encodeToHeap(element, segments[index >>> shift].order());
+        transfer(address(index), bytes, width, true);
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        ensureSegment(size);
+        codec.encode(e, segments[size >>> shift], (size & mask) * width);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        ensureSegment(size);
+        byte[] bytes = encodeToHeap(element, segments[index >>> shift].order());
+        moveBytes(address(index), address(index + 1), address(size - index));
+        transfer(address(index), bytes, width, true);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E old = get(index);
+
+        moveBytes(address(index + 1), address(index), address(size - index - 1));
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(segments, null);
+        size = 0;
+        modCount++;
+    }
+}
@@ -0,0 +1,260 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list where every change returns a new version sharing most of its structure
+ * with the previous one.
+ * <p>
+ * Elements are stored in a trie with 32 children per node, plus a tail block of up to 32
+ * elements kept outside of the trie. {@link #get(int)} and {@link #with(int, Object)} cost
+ * O(log32 n), which is at most 7 levels for any list size. {@link #plus(Object)} and
+ * {@link #minus()} work at the tail and touch the trie once every 32 elements.
+ * Each new version copies only the path to the changed element.
+ * <p>
+ * The {@link java.util.List} mutators throw {@link UnsupportedOperationException}.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public final class PersistentCustomList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final class Node {
+        private final Object[] array;
+
+        private Node(Object[] array) {
+            this.array = array;
+        }
+    }
+
+    private static final Node EMPTY_NODE = new Node(new Object[WIDTH]);
+    private static final PersistentCustomList<?> EMPTY =
+            new PersistentCustomList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentCustomList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentCustomList<E> empty() {
+        return (PersistentCustomList<E>) EMPTY;
+    }
+
+    public static <E> PersistentCustomList<E> of(Iterable<? extends E> elements) {
+        PersistentCustomList<E> list = empty();
+        for (E element : elements) {
+            list = list.plus(element);
+        }
+        return list;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * @return The index of the first element kept in the tail.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * @return The block of 32 elements holding {@code index}.
+     */
+    private Object[] blockFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        return (E) blockFor(index)[index & MASK];
+    }
+
+    /**
+     * @return A new version with {@code element} appended.
+     */
+    public PersistentCustomList<E> plus(E element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentCustomList<>(size + 1, shift, root, newTail);
+        }
+
+        Node tailNode = new Node(tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tailNode);
+        }
+        return new PersistentCustomList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Node copy = new Node(parent.array.clone());
+        if (level == BITS) {
+            copy.array[child] = tailNode;
+        } else {
+            Node node = (Node) parent.array[child];
+            copy.array[child] = node != null
+                    ? pushTail(level - BITS, node, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    private static Node newPath(int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+
+        Node path = new Node(new Object[WIDTH]);
+        path.array[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    /**
+     * @return A new version with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentCustomList<E> with(int index, E element) {
+        checkIndex(index);
+
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentCustomList<>(size, shift, root, newTail);
+        }
+        return new PersistentCustomList<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    private static Node assoc(int level, Node node, int index, Object element) {
+        Node copy = new Node(node.array.clone());
+        if (level == 0) {
+            copy.array[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy.array[child] = assoc(level - BITS, (Node) node.array[child], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * @return A new version without the last element.
+     * @throws IllegalStateException When the list is empty.
+     */
+    public PersistentCustomList<E> minus() {
+        if (size == 0) {
+            throw new IllegalStateException("The list is empty.");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentCustomList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        Object[] newTail = blockFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentCustomList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * @return A copy of {@code node} without its last block, or {@code null} when it becomes empty.
+     */
+    private Node popTail(int level, Node node) {
+        int child = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[child]);
+            if (newChild == null && child == 0) {
+                return null;
+            }
+
+            Node copy = new Node(node.array.clone());
+            copy.array[child] = newChild;
+            return copy;
+        }
+        if (child == 0) {
+            return null;
+        }
+
+        Node copy = new Node(node.array.clone());
+        copy.array[child] = null;
+        return copy;
+    }
+
+    /**
+     * Walks the list block by block instead of descending the trie for every element.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int index;
+            private Object[] block;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0 || block == null) {
+                    block = blockFor(index);
+                }
+                return (E) block[index++ & MASK];
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.durmm.collection;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Applies an action to an index range, splitting it in halves down to a threshold
+ * and running the halves in the {@link java.util.concurrent.ForkJoinPool} of the calling thread,
+ * or in the common pool when the caller is not a fork/join worker.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+final class RangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The smallest range worth handing over to another thread.
+     */
+    private static final int MIN_RANGE = 1 << 12;
+
+    @FunctionalInterface
+    interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    private final RangeAction action;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final int alignment;
+
+    private RangeTask(RangeAction action, int from, int to, int threshold, int alignment) {
+        this.action = action;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.alignment = alignment;
+    }
+
+    /**
+     * Runs {@code action} over {@code [from, to)} in parallel and waits for it.
+     *
+     * @param alignment Split points are multiples of it, a power of two.
+     */
+    static void run(RangeAction action, int from, int to, int alignment) {
+        ForkJoinPool pool = ForkJoinTask.getPool();
+        int parallelism = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        int threshold = Math.max(MIN_RANGE, (to - from) / (parallelism << 2));
+        new RangeTask(action, from, to, threshold, alignment).invoke();
+    }
+
+    @Override
+    protected void compute() {
+        int mid = ((from + to) >>> 1) & -alignment;
+        if (to - from <= threshold || mid <= from) {
+            action.apply(from, to);
+            return;
+        }
+
+        invokeAll(new RangeTask(action, from, mid, threshold, alignment),
+                new RangeTask(action, mid, to, threshold, alignment));
+    }
+}
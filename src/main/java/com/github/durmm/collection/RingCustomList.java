@@ -0,0 +1,537 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A list stored in a circular backing array, which {@link #asDeque()} also exposes as a {@link Deque}.
+ * <p>
+ * The elements start at a head offset and wrap around the end of the array, so adding and removing
+ * at either end costs O(1) and never shifts the other elements, like a sliding window. The length of
+ * the array is a power of two, so {@link #get(int)} maps an index with an addition and a mask.
+ * Insertions and removals in the middle shift the shorter side only.
+ * <p>
+ * The list does not implement {@link Deque} itself: since Java 21 both interfaces declare
+ * a {@code reversed()} method with incompatible return types. The operations on the ends are
+ * available on the list directly, the rest of the deque API through the view.
+ * <p>
+ * Like {@link java.util.ArrayDeque} the list does not accept {@code null} elements, so that
+ * {@link #pollFirst()} and the other polling methods can report an empty list with {@code null}.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class RingCustomList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
+
+    private final GrowthPolicy growthPolicy;
+    private Object[] array;
+    private int head;
+    private int size;
+    private Deque<E> deque;
+
+    public RingCustomList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * @param initialCapacity The initial length of the backing array, rounded up to a power of two.
+     * @param growthPolicy    Decides how much the backing array grows when it is full,
+     *                        the result is rounded up to a power of two.
+     */
+    public RingCustomList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        this.array = new Object[powerOfTwo(Math.max(initialCapacity, 1))];
+        this.growthPolicy = growthPolicy;
+    }
+
+    private static int powerOfTwo(int minLength) {
+        if (minLength > MAX_POWER_OF_TWO) {
+            throw new OutOfMemoryError("Required array length is too large.");
+        }
+        int length = Integer.highestOneBit(minLength);
+        return length == minLength ? length : length << 1;
+    }
+
+    private int physical(int index) {
+        return (head + index) & (array.length - 1);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static void checkElement(Object element) {
+        if (element == null) {
+            throw new NullPointerException("The element cannot be null.");
+        }
+    }
+
+    /**
+     * Unwraps the elements into a larger array, so they start at index 0 again.
+     */
+    private void extendArrayLength() {
+        int minLength = array.length + 1;
+        int grown = growthPolicy.newCapacity(array.length, minLength);
+        int newLength = powerOfTwo(grown < minLength ? minLength : grown);
+        array = unwrap(newLength);
+        head = 0;
+    }
+
+    private Object[] unwrap(int length) {
+        Object[] unwrapped = new Object[length];
+        int firstPart = Math.min(size, array.length - head);
+        System.arraycopy(array, head, unwrapped, 0, firstPart);
+        System.arraycopy(array, 0, unwrapped, firstPart, size - firstPart);
+        return unwrapped;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        return (E) array[physical(index)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        checkElement(element);
+
+        int position = physical(index);
+        E old = (E) array[position];
+        array[position] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        checkElement(element);
+        if (size == array.length) {
+            extendArrayLength();
+        }
+
+        int mask = array.length - 1;
+        if (index < size - index) {
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+        }
+        array[(head + index) & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        int mask = array.length - 1;
+        E old = (E) array[(head + index) & mask];
+        if (index < size - index - 1) {
+            for (int i = index; i > 0; i--) {
+                array[(head + i) & mask] = array[(head + i - 1) & mask];
+            }
+            array[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                array[(head + i) & mask] = array[(head + i + 1) & mask];
+            }
+            array[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int firstPart = Math.min(size, array.length - head);
+        int index = ArrayScans.indexOf(array, head, head + firstPart, o);
+        if (index >= 0) {
+            return index - head;
+        }
+        index = ArrayScans.indexOf(array, 0, size - firstPart, o);
+        return index < 0 ? -1 : index + firstPart;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int firstPart = Math.min(size, array.length - head);
+        int index = ArrayScans.lastIndexOf(array, 0, size - firstPart, o);
+        if (index >= 0) {
+            return index + firstPart;
+        }
+        index = ArrayScans.lastIndexOf(array, head, head + firstPart, o);
+        return index < 0 ? -1 : index - head;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return unwrap(size);
+    }
+
+    @Override
+    public void clear() {
+        int firstPart = Math.min(size, array.length - head);
+        Arrays.fill(array, head, head + firstPart, null);
+        Arrays.fill(array, 0, size - firstPart, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    public void addFirst(E e) {
+        checkElement(e);
+        if (size == array.length) {
+            extendArrayLength();
+        }
+
+        head = (head - 1) & (array.length - 1);
+        array[head] = e;
+        size++;
+        modCount++;
+    }
+
+    public void addLast(E e) {
+        checkElement(e);
+        if (size == array.length) {
+            extendArrayLength();
+        }
+
+        array[physical(size)] = e;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * @throws NoSuchElementException When the list is empty.
+     */
+    public E removeFirst() {
+        E e = pollFirst();
+        if (e == null) {
+            throw new NoSuchElementException();
+        }
+        return e;
+    }
+
+    /**
+     * @throws NoSuchElementException When the list is empty.
+     */
+    public E removeLast() {
+        E e = pollLast();
+        if (e == null) {
+            throw new NoSuchElementException();
+        }
+        return e;
+    }
+
+    /**
+     * @return The removed first element, {@code null} when the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+
+        E e = (E) array[head];
+        array[head] = null;
+        head = (head + 1) & (array.length - 1);
+        size--;
+        modCount++;
+        return e;
+    }
+
+    /**
+     * @return The removed last element, {@code null} when the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E pollLast() {
+        if (size == 0) {
+            return null;
+        }
+
+        int tail = physical(size - 1);
+        E e = (E) array[tail];
+        array[tail] = null;
+        size--;
+        modCount++;
+        return e;
+    }
+
+    /**
+     * @throws NoSuchElementException When the list is empty.
+     */
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * @throws NoSuchElementException When the list is empty.
+     */
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * @return The first element, {@code null} when the list is empty.
+     */
+    public E peekFirst() {
+        return size == 0 ? null : get(0);
+    }
+
+    /**
+     * @return The last element, {@code null} when the list is empty.
+     */
+    public E peekLast() {
+        return size == 0 ? null : get(size - 1);
+    }
+
+    /**
+     * @return A {@link Deque} view over this list, the first element of the list is the head of the deque.
+     */
+    public Deque<E> asDeque() {
+        if (deque == null) {
+            deque = new DequeView();
+        }
+        return deque;
+    }
+
+    private class DequeView extends AbstractCollection<E> implements Deque<E> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return RingCustomList.this.iterator();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return RingCustomList.this.remove(o);
+        }
+
+        @Override
+        public void clear() {
+            RingCustomList.this.clear();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return RingCustomList.this.toArray();
+        }
+
+        @Override
+        public void addFirst(E e) {
+            RingCustomList.this.addFirst(e);
+        }
+
+        @Override
+        public void addLast(E e) {
+            RingCustomList.this.addLast(e);
+        }
+
+        @Override
+        public boolean offerFirst(E e) {
+            RingCustomList.this.addFirst(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLast(E e) {
+            RingCustomList.this.addLast(e);
+            return true;
+        }
+
+        @Override
+        public E removeFirst() {
+            return RingCustomList.this.removeFirst();
+        }
+
+        @Override
+        public E removeLast() {
+            return RingCustomList.this.removeLast();
+        }
+
+        @Override
+        public E pollFirst() {
+            return RingCustomList.this.pollFirst();
+        }
+
+        @Override
+        public E pollLast() {
+            return RingCustomList.this.pollLast();
+        }
+
+        @Override
+        public E getFirst() {
+            return RingCustomList.this.getFirst();
+        }
+
+        @Override
+        public E getLast() {
+            return RingCustomList.this.getLast();
+        }
+
+        @Override
+        public E peekFirst() {
+            return RingCustomList.this.peekFirst();
+        }
+
+        @Override
+        public E peekLast() {
+            return RingCustomList.this.peekLast();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object o) {
+            return RingCustomList.this.remove(o);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            int index = lastIndexOf(o);
+            if (index < 0) {
+                return false;
+            }
+
+            RingCustomList.this.remove(index);
+            return true;
+        }
+
+        @Override
+        public boolean add(E e) {
+            RingCustomList.this.addLast(e);
+            return true;
+        }
+
+        @Override
+        public boolean offer(E e) {
+            return offerLast(e);
+        }
+
+        @Override
+        public E remove() {
+            return removeFirst();
+        }
+
+        @Override
+        public E poll() {
+            return pollFirst();
+        }
+
+        @Override
+        public E element() {
+            return getFirst();
+        }
+
+        @Override
+        public E peek() {
+            return peekFirst();
+        }
+
+        @Override
+        public void push(E e) {
+            addFirst(e);
+        }
+
+        @Override
+        public E pop() {
+            return removeFirst();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            ListIterator<E> iterator = listIterator(size);
+            return new Iterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasPrevious();
+                }
+
+                @Override
+                public E next() {
+                    return iterator.previous();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.durmm.collection;
+
+/**
+ * Decides whether the backing array of a list shrinks after elements were removed.
+ * <p>
+ * Like {@link GrowthPolicy} it only computes the capacity, the list itself does the copying.
+ *
+ * @author Gaya Gyulnazaryan
+ */
+@FunctionalInterface
+public interface ShrinkPolicy {
+
+    /**
+     * @param capacity The current length of the backing array.
+     * @param size     The amount of elements left in the list.
+     * @return The new length of the backing array, {@code capacity} to keep it.
+     */
+    int newCapacity(int capacity, int size);
+
+    /**
+     * Halves the capacity while less than {@code threshold} of it is used, but never below
+     * {@code minCapacity}. A threshold of at most one quarter is a hysteresis: right after shrinking
+     * the array is at most half full, so the list grows again only after it doubles in size,
+     * and a list oscillating around a size does not reallocate on every change.
+     *
+     * @param threshold   The utilization below which the list shrinks, above 0 and at most 0.25.
+     * @param minCapacity The capacity the list never shrinks below.
+     */
+    static ShrinkPolicy halving(double threshold, int minCapacity) {
+        if (!(threshold > 0 && threshold <= 0.25)) {
+            throw new IllegalArgumentException("The threshold must be above 0 and at most 0.25: " + threshold);
+        }
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("The minimal capacity cannot be negative: " + minCapacity);
+        }
+
+        return (capacity, size) -> {
+            int newCapacity = capacity;
+            while (newCapacity / 2 >= minCapacity && size < newCapacity * threshold) {
+                newCapacity /= 2;
+            }
+            return newCapacity;
+        };
+    }
+}
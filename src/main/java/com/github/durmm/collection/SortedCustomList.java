@@ -0,0 +1,310 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+
+/**
+ * A list which keeps its elements ordered by a comparator in a single backing array.
+ * <p>
+ * Lookups are binary searches, so {@link #contains(Object)} and {@link #indexOf(Object)} cost O(log n).
+ * Elements equal by the comparator keep their insertion order. Equality of the lookups is decided
+ * by the comparator as well, like in {@link java.util.TreeSet}.
+ * <p>
+ * Positional insertions and {@link #set(int, Object)} are not supported, they would break the order.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class SortedCustomList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Comparator<? super E> comparator;
+    private final GrowthPolicy growthPolicy;
+    private Object[] array;
+    private int size;
+
+    /**
+     * Creates a list ordered by the natural ordering of its elements.
+     */
+    public SortedCustomList() {
+        this(null);
+    }
+
+    /**
+     * @param comparator The order of the elements, {@code null} for the natural ordering.
+     */
+    public SortedCustomList(Comparator<? super E> comparator) {
+        this(comparator, DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * @param comparator      The order of the elements, {@code null} for the natural ordering.
+     * @param initialCapacity The initial length of the backing array.
+     * @param growthPolicy    Decides how much the backing array grows when it is full.
+     */
+    public SortedCustomList(Comparator<? super E> comparator, int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        this.comparator = comparator;
+        this.array = new Object[initialCapacity];
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * @return The order of the elements, {@code null} for the natural ordering.
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private int grownArrayLength(int minLength) {
+        if (minLength < 0 || minLength > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length is too large.");
+        }
+
+        return Math.max(growthPolicy.newCapacity(array.length, minLength), minLength);
+    }
+
+    private void extendArrayLength(int minLength) {
+        array = Arrays.copyOf(array, grownArrayLength(minLength));
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object a, Object b) {
+        return comparator == null
+                ? ((Comparable<Object>) a).compareTo(b)
+                : comparator.compare((E) a, (E) b);
+    }
+
+    /**
+     * @return The index of the first element not less than {@code o}.
+     */
+    private int lowerBound(Object o) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(array[mid], o) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return The index of the first element greater than {@code o}.
+     */
+    private int upperBound(Object o) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(array[mid], o) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        return (E) array[index];
+    }
+
+    /**
+     * Inserts the element after all the elements not greater than it.
+     */
+    @Override
+    public boolean add(E e) {
+        if (comparator == null && e == null) {
+            throw new NullPointerException("The element cannot be null.");
+        }
+        if (size == 0) {
+            // type check the first element like TreeMap.put, later ones are compared by the search
+            compare(e, e);
+        }
+
+        int index = upperBound(e);
+        if (size == array.length) {
+            extendArrayLength(size + 1);
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Sorts a copy of the collection and merges it in, see {@link #addAllSorted(Collection)}.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        Object[] elements = c.toArray();
+        Arrays.sort(elements, (Comparator<Object>) this::compare);
+        return merge(elements);
+    }
+
+    /**
+     * Merges a collection which is already sorted by {@link #comparator()} in O(n + m),
+     * instead of inserting its elements one by one.
+     *
+     * @throws IllegalArgumentException When the collection is not sorted.
+     */
+    public boolean addAllSorted(Collection<? extends E> c) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        Object[] elements = c.toArray();
+        for (int i = 1; i < elements.length; i++) {
+            if (compare(elements[i - 1], elements[i]) > 0) {
+                throw new IllegalArgumentException("The collection is not sorted at index: " + i);
+            }
+        }
+        return merge(elements);
+    }
+
+    /**
+     * Merges sorted elements with the list into a new backing array, so every element moves once.
+     * The list only switches to the new array once the merge completed, so a comparator which throws
+     * leaves it unchanged. Existing elements win ties, which keeps the insertion order.
+     */
+    private boolean merge(Object[] elements) {
+        int count = elements.length;
+        if (count == 0) {
+            return false;
+        }
+        if (comparator == null) {
+            for (Object element : elements) {
+                if (element == null) {
+                    throw new NullPointerException("The element cannot be null.");
+                }
+            }
+        }
+        if (size == 0 && count == 1) {
+            // a single element into an empty list is never compared otherwise
+            compare(elements[0], elements[0]);
+        }
+
+        int newSize = size + count;
+        Object[] merged = new Object[newSize > array.length || newSize < 0 ? grownArrayLength(newSize) : array.length];
+        int write = 0;
+        int existing = 0;
+        int added = 0;
+        while (existing < size && added < count) {
+            if (compare(array[existing], elements[added]) <= 0) {
+                merged[write++] = array[existing++];
+            } else {
+                merged[write++] = elements[added++];
+            }
+        }
+        System.arraycopy(array, existing, merged, write, size - existing);
+        System.arraycopy(elements, added, merged, write + size - existing, count - added);
+        array = merged;
+        size = newSize;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * @return The index of the first element equal to {@code o} by the comparator, -1 if there is none.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (o == null && comparator == null) {
+            return -1;
+        }
+
+        int index = lowerBound(o);
+        return index < size && compare(array[index], o) == 0 ? index : -1;
+    }
+
+    /**
+     * @return The index of the last element equal to {@code o} by the comparator, -1 if there is none.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o == null && comparator == null) {
+            return -1;
+        }
+
+        int index = upperBound(o) - 1;
+        return index >= 0 && compare(array[index], o) == 0 ? index : -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        E old = (E) array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[--size] = null;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+}
@@ -0,0 +1,484 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread safe list for read mostly workloads, guarded by a {@link StampedLock}.
+ * <p>
+ * {@link #get(int)} and {@link #size()} first read without locking and only validate the stamp
+ * afterwards, so readers never write to shared memory and do not contend with each other. They fall
+ * back to a read lock when a writer interfered. {@link #contains(Object)}, {@link #indexOf(Object)}
+ * and {@link #lastIndexOf(Object)} scan under the read lock, as calling {@code equals} on unvalidated
+ * reads could throw before the stamp is checked. Every modification takes the write lock.
+ * <p>
+ * Iteration is fail-safe: iterators, spliterators, {@link #subList(int, int)} and {@link #snapshot()}
+ * see the elements at the time they were created and never throw
+ * {@link java.util.ConcurrentModificationException}. They share the backing array like
+ * {@link CustomList#snapshot()} does, and cannot modify the list.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class StampedCustomList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private final GrowthPolicy growthPolicy;
+    private final AtomicInteger sharedLength = new AtomicInteger();
+    private Object[] array;
+    private int size;
+
+    public StampedCustomList() {
+        this(DEFAULT_CAPACITY, GrowthPolicy.doubling());
+    }
+
+    /**
+     * @param initialCapacity The initial length of the backing array.
+     * @param growthPolicy    Decides how much the backing array grows when it is full.
+     */
+    public StampedCustomList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative: " + initialCapacity);
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("The growth policy cannot be null.");
+        }
+
+        this.array = new Object[initialCapacity];
+        this.growthPolicy = growthPolicy;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Must be called with the write lock held.
+     */
+    private void extendArrayLength(int minLength) {
+        if (minLength < 0 || minLength > GrowthPolicy.MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array length is too large.");
+        }
+
+        int newLength = Math.max(growthPolicy.newCapacity(array.length, minLength), minLength);
+        array = Arrays.copyOf(array, newLength);
+        sharedLength.set(0);
+    }
+
+    /**
+     * Copies the backing array before a snapshot could see {@code index} change.
+     * Must be called with the write lock held.
+     */
+    private void copyOnWrite(int index) {
+        if (index < sharedLength.get()) {
+            array = Arrays.copyOf(array, array.length);
+            sharedLength.set(0);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int s = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                s = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return s;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = array;
+        int s = size;
+        Object element = index >= 0 && index < s && index < a.length ? a[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                s = size;
+                element = index >= 0 && index < s ? array[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        checkIndex(index, s);
+        return (E) element;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.readLock();
+        try {
+            return ArrayScans.indexOf(array, 0, size, o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        long stamp = lock.readLock();
+        try {
+            return ArrayScans.lastIndexOf(array, 0, size, o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns an immutable view of the current elements in O(1), see {@link CustomList#snapshot()}.
+     */
+    public List<E> snapshot() {
+        long stamp = lock.readLock();
+        try {
+            sharedLength.accumulateAndGet(size, Math::max);
+            return new ArraySnapshot<>(array, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot().iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        return snapshot().listIterator(index);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return snapshot().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return snapshot().spliterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        snapshot().forEach(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            return Arrays.copyOf(array, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(T[] a) {
+        long stamp = lock.readLock();
+        try {
+            if (a.length < size) {
+                return (T[]) Arrays.copyOf(array, size, a.getClass());
+            }
+
+            System.arraycopy(array, 0, a, 0, size);
+            if (a.length > size) {
+                a[size] = null;
+            }
+            return a;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index, size);
+            copyOnWrite(index);
+            E old = (E) array[index];
+            array[index] = element;
+            return old;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(E e) {
+        long stamp = lock.writeLock();
+        try {
+            if (size == array.length) {
+                extendArrayLength(size + 1);
+            }
+            array[size++] = e;
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            if (size == array.length) {
+                extendArrayLength(size + 1);
+            }
+            copyOnWrite(index);
+            System.arraycopy(array, index, array, index + 1, size - index);
+            array[index] = element;
+            size++;
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies the collection before taking the write lock, then adds all of its elements with a single growth.
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        Object[] elements = c.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int newSize = size + elements.length;
+            if (newSize > array.length || newSize < 0) {
+                extendArrayLength(newSize);
+            }
+            System.arraycopy(elements, 0, array, size, elements.length);
+            size = newSize;
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index, size);
+            return (E) removeAt(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+        try {
+            int index = ArrayScans.indexOf(array, 0, size, o);
+            if (index < 0) {
+                return false;
+            }
+            removeAt(index);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Must be called with the write lock held.
+     */
+    private Object removeAt(int index) {
+        copyOnWrite(index);
+        Object old = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        array[--size] = null;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        return removeIf(e -> !c.contains(e));
+    }
+
+    /**
+     * Tests the elements outside of the lock against a copy, so the filter may read this list,
+     * then compacts the list in a single pass under the write lock. When a writer changed the
+     * list in between, the elements are tested again.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new NullPointerException("The filter cannot be null.");
+        }
+
+        while (true) {
+            Object[] elements;
+            int expectedModCount;
+            long stamp = lock.readLock();
+            try {
+                elements = Arrays.copyOf(array, size);
+                expectedModCount = modCount;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+
+            BitSet removed = new BitSet(elements.length);
+            for (int i = 0; i < elements.length; i++) {
+                if (filter.test((E) elements[i])) {
+                    removed.set(i);
+                }
+            }
+            if (removed.isEmpty()) {
+                return false;
+            }
+
+            stamp = lock.writeLock();
+            try {
+                if (modCount != expectedModCount || !holds(elements)) {
+                    continue;
+                }
+
+                int write = removed.nextSetBit(0);
+                copyOnWrite(write);
+                for (int read = write + 1; read < size; read++) {
+                    if (!removed.get(read)) {
+                        array[write++] = array[read];
+                    }
+                }
+                Arrays.fill(array, write, size, null);
+                size = write;
+                modCount++;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Must be called with a lock held.
+     *
+     * @return Whether the list still holds the very same elements, which catches
+     * a {@link #set(int, Object)} that did not count as a modification.
+     */
+    private boolean holds(Object[] elements) {
+        if (size != elements.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (array[i] != elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the elements under the write lock, the operator must not access this list.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        if (operator == null) {
+            throw new NullPointerException("The operator cannot be null.");
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            copyOnWrite(0);
+            for (int i = 0; i < size; i++) {
+                array[i] = operator.apply((E) array[i]);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sorts the elements under the write lock, the comparator must not access this list.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void sort(Comparator<? super E> c) {
+        long stamp = lock.writeLock();
+        try {
+            copyOnWrite(0);
+            Arrays.sort((E[]) array, 0, size, c);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            if (sharedLength.get() > 0) {
+                array = new Object[array.length];
+                sharedLength.set(0);
+            } else {
+                Arrays.fill(array, 0, size, null);
+            }
+            size = 0;
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
@@ -0,0 +1,715 @@
+package com.github.durmm.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A list stored in a counted B+-tree of small leaf arrays, for very large lists edited in the middle.
+ * <p>
+ * Every node knows how many elements its subtree holds, so positional access, {@link #add(int, Object)}
+ * and {@link #remove(int)} descend to the right leaf in O(log n) and only shift elements inside that
+ * leaf. Whole lists are cut with {@link #split(int)} and joined with {@link #append(TreeCustomList)}
+ * in O(log n) as well, which also makes {@link #addAll(int, Collection)} and clearing a
+ * {@link #subList(int, int)} independent of the size of the list.
+ * <p>
+ * All leaves are at the same depth, and every node except the root is at least half full.
+ * Iteration walks the leaf arrays one after another.
+ *
+ * @param <E> The type of elements in this list.
+ * @author Gaya Gyulnazaryan
+ */
+public class TreeCustomList<E> extends AbstractList<E> {
+    private static final int MAX_LEAF = 64;
+    private static final int MIN_LEAF = MAX_LEAF / 2;
+    private static final int MAX_CHILDREN = 32;
+    private static final int MIN_CHILDREN = MAX_CHILDREN / 2;
+
+    private Node root;
+    private int height;
+
+    public TreeCustomList() {
+        this.root = new Leaf();
+    }
+
+    public TreeCustomList(Collection<? extends E> c) {
+        this();
+        addAll(c);
+    }
+
+    private abstract static class Node {
+        /**
+         * The amount of elements in this subtree.
+         */
+        int size;
+
+        abstract boolean isUnderfull();
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] elements = new Object[MAX_LEAF];
+
+        @Override
+        boolean isUnderfull() {
+            return size < MIN_LEAF;
+        }
+    }
+
+    private static final class Branch extends Node {
+        final Node[] children = new Node[MAX_CHILDREN];
+        int count;
+
+        @Override
+        boolean isUnderfull() {
+            return count < MIN_CHILDREN;
+        }
+
+        void recomputeSize() {
+            int sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += children[i].size;
+            }
+            size = sum;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= root.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + root.size);
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > root.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + root.size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int i = 0;
+            while (index >= branch.children[i].size) {
+                index -= branch.children[i++].size;
+            }
+            node = branch.children[i];
+        }
+        return (E) ((Leaf) node).elements[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int i = 0;
+            while (index >= branch.children[i].size) {
+                index -= branch.children[i++].size;
+            }
+            node = branch.children[i];
+        }
+        Object[] elements = ((Leaf) node).elements;
+        E old = (E) elements[index];
+        elements[index] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        add(root.size, e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+
+        Node split = insert(root, index, element);
+        if (split != null) {
+            Branch newRoot = new Branch();
+            newRoot.children[0] = root;
+            newRoot.children[1] = split;
+            newRoot.count = 2;
+            newRoot.recomputeSize();
+            root = newRoot;
+            height++;
+        }
+        modCount++;
+    }
+
+    /**
+     * @return The new right sibling of {@code node} when it had to split, otherwise {@code null}.
+     */
+    private static Node insert(Node node, int index, Object element) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            if (leaf.size < MAX_LEAF) {
+                insertIntoLeaf(leaf, index, element);
+                return null;
+            }
+
+            Leaf right = new Leaf();
+            int half = MAX_LEAF / 2;
+            System.arraycopy(leaf.elements, half, right.elements, 0, MAX_LEAF - half);
+            Arrays.fill(leaf.elements, half, MAX_LEAF, null);
+            leaf.size = half;
+            right.size = MAX_LEAF - half;
+            if (index <= half) {
+                insertIntoLeaf(leaf, index, element);
+            } else {
+                insertIntoLeaf(right, index - half, element);
+            }
+            return right;
+        }
+
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (i < branch.count - 1 && index > branch.children[i].size) {
+            index -= branch.children[i++].size;
+        }
+        branch.size++;
+        Node split = insert(branch.children[i], index, element);
+        return split == null ? null : insertChild(branch, i + 1, split);
+    }
+
+    private static void insertIntoLeaf(Leaf leaf, int index, Object element) {
+        System.arraycopy(leaf.elements, index, leaf.elements, index + 1, leaf.size - index);
+        leaf.elements[index] = element;
+        leaf.size++;
+    }
+
+    /**
+     * Inserts {@code child} into {@code branch}, whose size must already count the child.
+     *
+     * @return The new right sibling of {@code branch} when it had to split, otherwise {@code null}.
+     */
+    private static Branch insertChild(Branch branch, int index, Node child) {
+        if (branch.count < MAX_CHILDREN) {
+            System.arraycopy(branch.children, index, branch.children, index + 1, branch.count - index);
+            branch.children[index] = child;
+            branch.count++;
+            return null;
+        }
+
+        Node[] all = new Node[MAX_CHILDREN + 1];
+        System.arraycopy(branch.children, 0, all, 0, index);
+        all[index] = child;
+        System.arraycopy(branch.children, index, all, index + 1, MAX_CHILDREN - index);
+        Branch right = new Branch();
+        int half = all.length / 2;
+        Arrays.fill(branch.children, null);
+        System.arraycopy(all, 0, branch.children, 0, half);
+        System.arraycopy(all, half, right.children, 0, all.length - half);
+        branch.count = half;
+        right.count = all.length - half;
+        branch.recomputeSize();
+        right.recomputeSize();
+        return right;
+    }
+
+    private static void removeChild(Branch branch, int index) {
+        System.arraycopy(branch.children, index + 1, branch.children, index, branch.count - index - 1);
+        branch.children[--branch.count] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        E old = (E) delete(root, index);
+        collapseRoot();
+        modCount++;
+        return old;
+    }
+
+    private static Object delete(Node node, int index) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            Object old = leaf.elements[index];
+            System.arraycopy(leaf.elements, index + 1, leaf.elements, index, leaf.size - index - 1);
+            leaf.elements[--leaf.size] = null;
+            return old;
+        }
+
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (index >= branch.children[i].size) {
+            index -= branch.children[i++].size;
+        }
+        Object old = delete(branch.children[i], index);
+        branch.size--;
+        if (branch.children[i].isUnderfull() && branch.count > 1) {
+            int left = i > 0 ? i - 1 : i;
+            if (balance(branch.children[left], branch.children[left + 1])) {
+                removeChild(branch, left + 1);
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Evens out two neighbouring nodes of the same height.
+     *
+     * @return Whether all of {@code right} fit into {@code left}, leaving {@code right} to be dropped.
+     */
+    private static boolean balance(Node left, Node right) {
+        if (left instanceof Leaf) {
+            return balanceLeaves((Leaf) left, (Leaf) right);
+        }
+        return balanceBranches((Branch) left, (Branch) right);
+    }
+
+    private static boolean balanceLeaves(Leaf left, Leaf right) {
+        int total = left.size + right.size;
+        if (total <= MAX_LEAF) {
+            System.arraycopy(right.elements, 0, left.elements, left.size, right.size);
+            left.size = total;
+            return true;
+        }
+
+        int leftSize = total / 2;
+        if (left.size < leftSize) {
+            int moved = leftSize - left.size;
+            System.arraycopy(right.elements, 0, left.elements, left.size, moved);
+            System.arraycopy(right.elements, moved, right.elements, 0, right.size - moved);
+            Arrays.fill(right.elements, right.size - moved, right.size, null);
+        } else {
+            int moved = left.size - leftSize;
+            System.arraycopy(right.elements, 0, right.elements, moved, right.size);
+            System.arraycopy(left.elements, leftSize, right.elements, 0, moved);
+            Arrays.fill(left.elements, leftSize, left.size, null);
+        }
+        left.size = leftSize;
+        right.size = total - leftSize;
+        return false;
+    }
+
+    private static boolean balanceBranches(Branch left, Branch right) {
+        int total = left.count + right.count;
+        if (total <= MAX_CHILDREN) {
+            System.arraycopy(right.children, 0, left.children, left.count, right.count);
+            left.count = total;
+            left.size += right.size;
+            return true;
+        }
+
+        int leftCount = total / 2;
+        if (left.count < leftCount) {
+            int moved = leftCount - left.count;
+            System.arraycopy(right.children, 0, left.children, left.count, moved);
+            System.arraycopy(right.children, moved, right.children, 0, right.count - moved);
+            Arrays.fill(right.children, right.count - moved, right.count, null);
+        } else {
+            int moved = left.count - leftCount;
+            System.arraycopy(right.children, 0, right.children, moved, right.count);
+            System.arraycopy(left.children, leftCount, right.children, 0, moved);
+            Arrays.fill(left.children, leftCount, left.count, null);
+        }
+        left.count = leftCount;
+        right.count = total - leftCount;
+        left.recomputeSize();
+        right.recomputeSize();
+        return false;
+    }
+
+    private void collapseRoot() {
+        while (root instanceof Branch && ((Branch) root).count == 1) {
+            root = ((Branch) root).children[0];
+            height--;
+        }
+    }
+
+    /**
+     * Moves all the elements of {@code other} to the end of this list in O(log n), leaving {@code other} empty.
+     */
+    public void append(TreeCustomList<? extends E> other) {
+        if (other == null) {
+            throw new NullPointerException("The list cannot be null.");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("The list cannot be appended to itself.");
+        }
+
+        concat(other.root, other.height);
+        other.root = new Leaf();
+        other.height = 0;
+        other.modCount++;
+        modCount++;
+    }
+
+    /**
+     * Removes the elements from {@code index} on in O(log n).
+     *
+     * @return A new list of the removed elements.
+     */
+    public TreeCustomList<E> split(int index) {
+        checkPositionIndex(index);
+
+        TreeCustomList<E> left = new TreeCustomList<>();
+        TreeCustomList<E> right = new TreeCustomList<>();
+        split(root, height, index, left, right);
+        root = left.root;
+        height = left.height;
+        modCount++;
+        return right;
+    }
+
+    /**
+     * Cuts the subtree of {@code node}, appending its elements before {@code index} to {@code left}
+     * and the rest to {@code right}. The nodes outside of the cut path are moved, not copied.
+     */
+    private static void split(Node node, int height, int index, TreeCustomList<?> left, TreeCustomList<?> right) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            Leaf tail = new Leaf();
+            System.arraycopy(leaf.elements, index, tail.elements, 0, leaf.size - index);
+            Arrays.fill(leaf.elements, index, leaf.size, null);
+            tail.size = leaf.size - index;
+            leaf.size = index;
+            left.concat(leaf, 0);
+            right.concat(tail, 0);
+            return;
+        }
+
+        Branch branch = (Branch) node;
+        int i = 0;
+        while (i < branch.count - 1 && index >= branch.children[i].size) {
+            index -= branch.children[i++].size;
+        }
+        left.concat(slice(branch, 0, i), i == 1 ? height - 1 : height);
+        split(branch.children[i], height - 1, index, left, right);
+        right.concat(slice(branch, i + 1, branch.count), branch.count - i - 1 == 1 ? height - 1 : height);
+    }
+
+    /**
+     * @return The children of {@code branch} from {@code from} to {@code to} under a new branch,
+     * the only child itself, or an empty leaf.
+     */
+    private static Node slice(Branch branch, int from, int to) {
+        if (to - from == 0) {
+            return new Leaf();
+        }
+        if (to - from == 1) {
+            return branch.children[from];
+        }
+
+        Branch slice = new Branch();
+        System.arraycopy(branch.children, from, slice.children, 0, to - from);
+        slice.count = to - from;
+        slice.recomputeSize();
+        return slice;
+    }
+
+    /**
+     * Joins the tree of {@code other} with the given height to the end of this tree.
+     */
+    private void concat(Node other, int otherHeight) {
+        if (other.size == 0) {
+            return;
+        }
+        if (root.size == 0) {
+            root = other;
+            height = otherHeight;
+            collapseRoot();
+            return;
+        }
+
+        Node split;
+        if (height == otherHeight) {
+            boolean merged = (root.isUnderfull() || other.isUnderfull()) && balance(root, other);
+            split = merged ? null : other;
+        } else if (height > otherHeight) {
+            split = joinRight((Branch) root, height, other, otherHeight);
+        } else {
+            Node left = root;
+            int leftHeight = height;
+            root = other;
+            height = otherHeight;
+            split = joinLeft((Branch) other, otherHeight, left, leftHeight);
+        }
+        if (split != null) {
+            Branch newRoot = new Branch();
+            newRoot.children[0] = root;
+            newRoot.children[1] = split;
+            newRoot.count = 2;
+            newRoot.recomputeSize();
+            root = newRoot;
+            height++;
+        }
+        collapseRoot();
+    }
+
+    /**
+     * Hangs {@code right} off the right spine of {@code left}.
+     *
+     * @return The new right sibling of {@code left} when it had to split, otherwise {@code null}.
+     */
+    private static Node joinRight(Branch left, int height, Node right, int rightHeight) {
+        left.size += right.size;
+        Node last = left.children[left.count - 1];
+        if (height == rightHeight + 1) {
+            if (right.isUnderfull() && balance(last, right)) {
+                return null;
+            }
+            return insertChild(left, left.count, right);
+        }
+
+        Node split = joinRight((Branch) last, height - 1, right, rightHeight);
+        return split == null ? null : insertChild(left, left.count, split);
+    }
+
+    /**
+     * Hangs {@code left} off the left spine of {@code right}.
+     *
+     * @return The new right sibling of {@code right} when it had to split, otherwise {@code null}.
+     */
+    private static Node joinLeft(Branch right, int height, Node left, int leftHeight) {
+        right.size += left.size;
+        Node first = right.children[0];
+        if (height == leftHeight + 1) {
+            if (left.isUnderfull() && balance(left, first)) {
+                right.children[0] = left;
+                return null;
+            }
+            return insertChild(right, 0, left);
+        }
+
+        Node split = joinLeft((Branch) first, height - 1, left, leftHeight);
+        return split == null ? null : insertChild(right, 1, split);
+    }
+
+    /**
+     * Builds a tree of the elements in O(m) and splices it in with a split and two joins.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+        if (c == null) {
+            throw new NullPointerException("The collection cannot be null.");
+        }
+
+        Object[] elements = c.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+
+        TreeCustomList<E> tail = split(index);
+        TreeCustomList<E> middle = build(elements);
+        concat(middle.root, middle.height);
+        concat(tail.root, tail.height);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(root.size, c);
+    }
+
+    /**
+     * Packs the elements into evenly filled leaves, then the leaves into evenly filled branches.
+     */
+    private static <E> TreeCustomList<E> build(Object[] elements) {
+        int leafCount = (elements.length + MAX_LEAF - 1) / MAX_LEAF;
+        Node[] level = new Node[leafCount];
+        for (int i = 0, from = 0; i < leafCount; i++) {
+            int to = (int) ((long) elements.length * (i + 1) / leafCount);
+            Leaf leaf = new Leaf();
+            System.arraycopy(elements, from, leaf.elements, 0, to - from);
+            leaf.size = to - from;
+            level[i] = leaf;
+            from = to;
+        }
+
+        int height = 0;
+        while (level.length > 1) {
+            int branchCount = (level.length + MAX_CHILDREN - 1) / MAX_CHILDREN;
+            Node[] parents = new Node[branchCount];
+            for (int i = 0, from = 0; i < branchCount; i++) {
+                int to = (int) ((long) level.length * (i + 1) / branchCount);
+                Branch branch = new Branch();
+                System.arraycopy(level, from, branch.children, 0, to - from);
+                branch.count = to - from;
+                branch.recomputeSize();
+                parents[i] = branch;
+                from = to;
+            }
+            level = parents;
+            height++;
+        }
+
+        TreeCustomList<E> tree = new TreeCustomList<>();
+        tree.root = level[0];
+        tree.height = height;
+        return tree;
+    }
+
+    /**
+     * Cuts the range out with two splits and a join in O(log n).
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        TreeCustomList<E> tail = split(toIndex);
+        split(fromIndex);
+        concat(tail.root, tail.height);
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        root = new Leaf();
+        height = 0;
+        modCount++;
+    }
+
+    int height() {
+        return height;
+    }
+
+    /**
+     * Verifies the counts, the depth of the leaves and the minimal fill of the nodes.
+     */
+    void checkInvariants() {
+        checkInvariants(root, height, true);
+    }
+
+    private static void checkInvariants(Node node, int height, boolean isRoot) {
+        if (!isRoot && node.isUnderfull()) {
+            throw new IllegalStateException("Underfull node at height " + height);
+        }
+        if (node instanceof Leaf) {
+            if (height != 0) {
+                throw new IllegalStateException("Leaf at height " + height);
+            }
+            return;
+        }
+
+        Branch branch = (Branch) node;
+        if (isRoot && branch.count < 2) {
+            throw new IllegalStateException("Root branch with " + branch.count + " children");
+        }
+        int size = 0;
+        for (int i = 0; i < branch.count; i++) {
+            checkInvariants(branch.children[i], height - 1, false);
+            size += branch.children[i].size;
+        }
+        if (size != branch.size) {
+            throw new IllegalStateException("Branch of size " + branch.size + " holds " + size + " elements");
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException("The action cannot be null.");
+        }
+
+        int expectedModCount = modCount;
+        forEach(root, (Consumer<Object>) action);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private static void forEach(Node node, Consumer<Object> action) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            for (int i = 0; i < leaf.size; i++) {
+                action.accept(leaf.elements[i]);
+            }
+        } else {
+            Branch branch = (Branch) node;
+            for (int i = 0; i < branch.count; i++) {
+                forEach(branch.children[i], action);
+            }
+        }
+    }
+
+    /**
+     * Walks the elements of a leaf array directly and descends from the root only to find the next leaf.
+     */
+    private class Itr implements Iterator<E> {
+        int cursor;
+        int lastReturned = -1;
+        int expectedModCount = modCount;
+        Leaf leaf;
+        int leafStart;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < root.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= root.size) {
+                throw new NoSuchElementException();
+            }
+            if (leaf == null || cursor - leafStart >= leaf.size) {
+                findLeaf(cursor);
+            }
+
+            lastReturned = cursor;
+            return (E) leaf.elements[cursor++ - leafStart];
+        }
+
+        private void findLeaf(int index) {
+            Node node = root;
+            int offset = index;
+            while (node instanceof Branch) {
+                Branch branch = (Branch) node;
+                int i = 0;
+                while (offset >= branch.children[i].size) {
+                    offset -= branch.children[i++].size;
+                }
+                node = branch.children[i];
+            }
+            leaf = (Leaf) node;
+            leafStart = index - offset;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            TreeCustomList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            leaf = null;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ArrayScansTest {
+
+    @Nested
+    class Objects {
+        @Test
+        void shouldMatchNaiveScanAcrossBlockBoundaries() {
+            Random random = new Random(23);
+            for (int length = 0; length < 40; length++) {
+                Object[] a = new Object[length];
+                for (int i = 0; i < length; i++) {
+                    int r = random.nextInt(6);
+                    a[i] = r == 0 ? null : new String("v" + r);
+                }
+                for (int from = 0; from <= length; from += 3) {
+                    for (Object o : new Object[]{null, "v1", "v5", "x"}) {
+                        assertThat(ArrayScans.indexOf(a, from, length, o)).isEqualTo(naiveIndexOf(a, from, length, o));
+                        assertThat(ArrayScans.lastIndexOf(a, from, length, o))
+                                .isEqualTo(naiveLastIndexOf(a, from, length, o));
+                    }
+                }
+            }
+        }
+
+        @Test
+        void shouldPreferEarlierEqualElementOverLaterIdenticalOne() {
+            String o = "value";
+            Object[] a = {"a", new String("value"), o, "b"};
+
+            assertThat(ArrayScans.indexOf(a, 0, a.length, o)).isEqualTo(1);
+            assertThat(ArrayScans.lastIndexOf(new Object[]{"a", o, new String("value"), "b"}, 0, 4, o)).isEqualTo(2);
+        }
+
+        @Test
+        void indexOfAllShouldReturnEveryMatch() {
+            Object[] a = new Object[100];
+            for (int i = 0; i < a.length; i++) {
+                a[i] = i % 7 == 0 ? null : "v" + (i % 3);
+            }
+
+            int[] nulls = ArrayScans.indexOfAll(a, 0, a.length, null);
+            int[] values = ArrayScans.indexOfAll(a, 10, 20, "v1");
+
+            assertThat(nulls).hasSize(15).startsWith(0, 7, 14).endsWith(98);
+            assertThat(values).containsExactly(10, 13, 16, 19);
+        }
+
+        private int naiveIndexOf(Object[] a, int from, int to, Object o) {
+            for (int i = from; i < to; i++) {
+                if (java.util.Objects.equals(a[i], o)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int naiveLastIndexOf(Object[] a, int from, int to, Object o) {
+            for (int i = to - 1; i >= from; i--) {
+                if (java.util.Objects.equals(a[i], o)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    @Nested
+    class Primitives {
+        @Test
+        void intsShouldMatchNaiveScanAcrossBlockBoundaries() {
+            Random random = new Random(23);
+            for (int length = 0; length < 40; length++) {
+                int[] a = random.ints(length, 0, 10).toArray();
+                for (int v = 0; v < 11; v++) {
+                    int first = -1;
+                    int last = -1;
+                    for (int i = 0; i < length; i++) {
+                        if (a[i] == v) {
+                            first = first < 0 ? i : first;
+                            last = i;
+                        }
+                    }
+                    assertThat(ArrayScans.indexOf(a, 0, length, v)).isEqualTo(first);
+                    assertThat(ArrayScans.lastIndexOf(a, 0, length, v)).isEqualTo(last);
+                }
+            }
+        }
+
+        @Test
+        void longsShouldFindValueInAnyBlockPosition() {
+            for (int position = 0; position < 20; position++) {
+                long[] a = new long[20];
+                a[position] = 7;
+
+                assertThat(ArrayScans.indexOf(a, 0, a.length, 7)).isEqualTo(position);
+                assertThat(ArrayScans.lastIndexOf(a, 0, a.length, 7)).isEqualTo(position);
+                assertThat(ArrayScans.indexOf(a, position + 1, a.length, 7)).isEqualTo(-1);
+            }
+        }
+
+        @Test
+        void doublesShouldCompareLikeDoubleEquals() {
+            double[] a = new double[20];
+            a[3] = -0.0;
+            a[11] = Double.NaN;
+            a[17] = 2.5;
+
+            assertThat(ArrayScans.indexOf(a, 0, a.length, -0.0)).isEqualTo(3);
+            assertThat(ArrayScans.indexOf(a, 3, a.length, 0.0)).isEqualTo(4);
+            assertThat(ArrayScans.indexOf(a, 0, a.length, Double.NaN)).isEqualTo(11);
+            assertThat(ArrayScans.lastIndexOf(a, 0, a.length, 2.5)).isEqualTo(17);
+            assertThat(ArrayScans.lastIndexOf(a, 0, a.length, 0.0)).isEqualTo(19);
+        }
+    }
+}
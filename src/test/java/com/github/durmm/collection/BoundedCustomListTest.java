@@ -0,0 +1,180 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BoundedCustomListTest {
+
+    private static BoundedCustomList<String> create(EvictionPolicy policy, String... elements) {
+        BoundedCustomList<String> list = new BoundedCustomList<>(3, policy);
+        for (String element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Nested
+    class Fifo {
+        @Test
+        void shouldAppendUntilFull() {
+            BoundedCustomList<String> list = create(EvictionPolicy.FIFO, "a", "b");
+
+            assertThat(list).containsExactly("a", "b");
+            assertThat(list.evictionCount()).isZero();
+        }
+
+        @Test
+        void shouldEvictOldestElementInItsPlace() {
+            BoundedCustomList<String> list = create(EvictionPolicy.FIFO, "a", "b", "c");
+
+            list.add("d");
+            list.add("e");
+
+            assertThat(list).containsExactly("d", "e", "c").hasSize(3);
+            assertThat(list.evictionCount()).isEqualTo(2);
+        }
+
+        @Test
+        void accessShouldNotProtectElement() {
+            BoundedCustomList<String> list = create(EvictionPolicy.FIFO, "a", "b", "c");
+
+            list.get(0);
+            list.contains("a");
+            list.add("d");
+
+            assertThat(list).doesNotContain("a");
+        }
+    }
+
+    @Nested
+    class Lru {
+        @Test
+        void shouldEvictLeastRecentlyAccessedElement() {
+            BoundedCustomList<String> list = create(EvictionPolicy.LRU, "a", "b", "c");
+
+            list.get(0);
+            list.contains("b");
+            list.add("d");
+
+            assertThat(list).containsExactly("a", "b", "d");
+        }
+
+        @Test
+        void iterationShouldNotCountAsAccess() {
+            BoundedCustomList<String> list = create(EvictionPolicy.LRU, "a", "b", "c");
+
+            list.forEach(e -> { });
+            assertThat(new ArrayList<>(list)).containsExactly("a", "b", "c");
+            list.add("d");
+
+            assertThat(list).containsExactly("d", "b", "c");
+        }
+
+        @Test
+        void removeShouldKeepAgesOfShiftedElements() {
+            BoundedCustomList<String> list = create(EvictionPolicy.LRU, "a", "b", "c");
+            list.get(2);
+            list.get(1);
+
+            list.remove(0);
+            list.add("d");
+            list.add("e");
+
+            assertThat(list).containsExactly("b", "e", "d");
+        }
+    }
+
+    @Nested
+    class Listener {
+        @Test
+        void shouldReceiveEvictedElements() {
+            BoundedCustomList<String> list = create(EvictionPolicy.FIFO, "a", "b", "c");
+            List<String> evicted = new ArrayList<>();
+            list.setEvictionListener(evicted::add);
+
+            list.add("d");
+            list.add("e");
+            list.setEvictionListener(null);
+            list.add("f");
+
+            assertThat(evicted).containsExactly("a", "b");
+        }
+    }
+
+    @Nested
+    class Stats {
+        @Test
+        void shouldCountHitsAndMisses() {
+            BoundedCustomList<String> list = create(EvictionPolicy.LRU, "a", "b");
+
+            list.contains("a");
+            list.indexOf("b");
+            list.contains("x");
+            list.lastIndexOf("a");
+
+            assertThat(list.hitCount()).isEqualTo(3);
+            assertThat(list.missCount()).isEqualTo(1);
+            assertThat(list.hitRate()).isEqualTo(0.75);
+        }
+
+        @Test
+        void resetStatsShouldClearCounters() {
+            BoundedCustomList<String> list = create(EvictionPolicy.FIFO, "a", "b", "c", "d");
+            list.contains("x");
+
+            list.resetStats();
+
+            assertThat(list.missCount()).isZero();
+            assertThat(list.evictionCount()).isZero();
+            assertThat(list.hitRate()).isZero();
+        }
+    }
+
+    @Nested
+    class Contract {
+        @Test
+        void addAtIndexShouldBeUnsupported() {
+            BoundedCustomList<String> list = create(EvictionPolicy.FIFO);
+
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> list.add(0, "a"));
+        }
+
+        @Test
+        void constructorShouldThrowWhenCapacityIsNotPositive() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new BoundedCustomList<>(0, EvictionPolicy.LRU))
+                    .withMessage("The capacity must be positive: 0");
+        }
+
+        @Test
+        void clearShouldAllowFillingAgain() {
+            BoundedCustomList<String> list = create(EvictionPolicy.LRU, "a", "b", "c", "d");
+
+            list.clear();
+            list.add("x");
+            list.add("y");
+
+            assertThat(list).containsExactly("x", "y");
+            assertThat(list.capacity()).isEqualTo(3);
+        }
+
+        @Test
+        void iteratorRemoveShouldRemoveElement() {
+            BoundedCustomList<String> list = create(EvictionPolicy.FIFO, "a", "b", "c");
+
+            list.removeIf("b"::equals);
+            list.add("d");
+            list.add("e");
+
+            assertThat(list).containsExactly("e", "c", "d");
+        }
+    }
+}
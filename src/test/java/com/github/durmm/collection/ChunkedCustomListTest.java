@@ -0,0 +1,150 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ChunkedCustomListTest {
+    private static final int CHUNK_SIZE = 4;
+
+    private <T> List<T> create() {
+        return new ChunkedCustomList<>(CHUNK_SIZE);
+    }
+
+    @Nested
+    class Construction {
+        @Test
+        void constructorShouldThrowWhenChunkSizeIsNotPowerOfTwo() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new ChunkedCustomList<>(3));
+        }
+
+        @Test
+        void constructorShouldThrowWhenChunkSizeIsNotPositive() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new ChunkedCustomList<>(0));
+        }
+    }
+
+    @Nested
+    class Add {
+        @Test
+        void addShouldSpanMultipleChunks() {
+            List<Integer> list = create();
+
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+
+            assertThat(list).hasSize(100);
+            for (int i = 0; i < 100; i++) {
+                assertThat(list.get(i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        void addAtIndexShouldShiftAcrossChunkBoundaries() {
+            List<Integer> list = create();
+            for (int i = 1; i <= 9; i++) {
+                list.add(i);
+            }
+
+            list.add(0, 0);
+            list.add(5, 42);
+
+            assertThat(list).containsExactly(0, 1, 2, 3, 4, 42, 5, 6, 7, 8, 9);
+        }
+
+        @Test
+        void addAtIndexShouldAppendWhenUsingSize() {
+            List<Integer> list = create();
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                list.add(i);
+            }
+
+            list.add(CHUNK_SIZE, CHUNK_SIZE);
+
+            assertThat(list).containsExactly(0, 1, 2, 3, 4);
+        }
+
+        @Test
+        void addAtIndexShouldThrowWhenIndexGreaterThenSize() {
+            List<Integer> list = create();
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.add(1, 1));
+        }
+    }
+
+    @Nested
+    class Remove {
+        @Test
+        void removeByIndexShouldShiftAcrossChunkBoundaries() {
+            List<Integer> list = create();
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            assertThat(list.remove(1)).isEqualTo(1);
+            assertThat(list.remove(8)).isEqualTo(9);
+
+            assertThat(list).containsExactly(0, 2, 3, 4, 5, 6, 7, 8);
+        }
+
+        @Test
+        void removeByIndexShouldThrowWhenIndexIsGreaterThenSize() {
+            List<Integer> list = create();
+            list.add(1);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.remove(1));
+        }
+
+        @Test
+        void clearShouldRemoveAllElements() {
+            List<Integer> list = create();
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            list.clear();
+            list.add(7);
+
+            assertThat(list).containsExactly(7);
+        }
+    }
+
+    @Test
+    void randomOperationsShouldMatchArrayList() {
+        List<Integer> list = create();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.set(index, -i)).isEqualTo(expected.set(index, -i));
+            } else {
+                list.add(i);
+                expected.add(i);
+            }
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+}
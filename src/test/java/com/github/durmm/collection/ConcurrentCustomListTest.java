@@ -0,0 +1,127 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCustomListTest {
+
+    @Nested
+    class SingleThreaded {
+        @Test
+        void addShouldAppendAcrossBuckets() {
+            List<Integer> list = new ConcurrentCustomList<>();
+
+            for (int i = 0; i < 1000; i++) {
+                list.add(i);
+            }
+
+            assertThat(list).hasSize(1000);
+            for (int i = 0; i < 1000; i++) {
+                assertThat(list.get(i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        void addShouldThrowWhenElementIsNull() {
+            List<Integer> list = new ConcurrentCustomList<>();
+
+            assertThatNullPointerException()
+                    .isThrownBy(() -> list.add(null));
+            assertThat(list).isEmpty();
+        }
+
+        @Test
+        void getShouldThrowWhenIndexIsNotPublished() {
+            List<Integer> list = new ConcurrentCustomList<>();
+            list.add(1);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.get(1));
+        }
+
+        @Test
+        void setShouldReplaceElement() {
+            List<Integer> list = new ConcurrentCustomList<>();
+            list.add(1);
+
+            assertThat(list.set(0, 2)).isEqualTo(1);
+            assertThat(list).containsExactly(2);
+        }
+
+        @Test
+        void removeShouldNotBeSupported() {
+            List<Integer> list = new ConcurrentCustomList<>();
+            list.add(1);
+
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> list.remove(0));
+        }
+
+        @Test
+        void iteratorShouldSeeElementsAppendedWhileIterating() {
+            List<Integer> list = new ConcurrentCustomList<>();
+            list.add(1);
+
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+            list.add(2);
+
+            assertThat(iterator.hasNext()).isTrue();
+            assertThat(iterator.next()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void concurrentAddsShouldKeepEveryElement() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        List<Integer> list = new ConcurrentCustomList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int first = t * perThread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = first; i < first + perThread; i++) {
+                        list.add(i);
+                        // every visible element must be readable while others append,
+                        // our own element may still wait for a slower producer before it
+                        int size = list.size();
+                        if (size > 0) {
+                            assertThat(list.get(size - 1)).isNotNull();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Integer> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+        assertThat(sorted).isEqualTo(IntStream.range(0, threads * perThread).boxed().collect(Collectors.toList()));
+    }
+}
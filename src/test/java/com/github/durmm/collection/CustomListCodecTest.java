@@ -0,0 +1,306 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CustomListCodecTest {
+
+    private static <E> byte[] write(CustomListCodec<E> codec, List<E> list) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(list, Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static <E> CustomList<E> read(CustomListCodec<E> codec, byte[] bytes) throws IOException {
+        return codec.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Hands out at most one byte per read, like a slow socket.
+     */
+    private static ReadableByteChannel trickle(byte[] bytes) {
+        ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes));
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                if (!dst.hasRemaining()) {
+                    return 0;
+                }
+                ByteBuffer one = ByteBuffer.allocate(1);
+                int read = channel.read(one);
+                if (read > 0) {
+                    dst.put(one.array()[0]);
+                }
+                return read;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return channel.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    @Nested
+    class FixedWidth {
+        private final CustomListCodec<Integer> codec = new CustomListCodec<>(ElementCodec.fixed(FixedWidthCodec.ints()));
+
+        @Test
+        void shouldRoundTripElements() throws IOException {
+            List<Integer> list = Arrays.asList(1, -2, Integer.MAX_VALUE, 0);
+
+            assertThat(read(codec, write(codec, list))).containsExactly(1, -2, Integer.MAX_VALUE, 0);
+        }
+
+        @Test
+        void shouldWriteHeaderChunkLengthAndElementsOnly() throws IOException {
+            assertThat(write(codec, Arrays.asList(1, 2, 3))).hasSize(13 + Integer.BYTES + 3 * Integer.BYTES);
+        }
+
+        @Test
+        void shouldRoundTripEmptyList() throws IOException {
+            assertThat(read(codec, write(codec, Collections.emptyList()))).isEmpty();
+        }
+
+        @Test
+        void shouldPresizeListFromHeader() throws IOException {
+            CustomList<Integer> source = new CustomList<>();
+            for (int i = 0; i < 1000; i++) {
+                source.add(i);
+            }
+
+            CustomList<Integer> list = read(codec, write(codec, source));
+
+            assertThat(list).containsExactlyElementsOf(source);
+            assertThat(list.capacity()).isEqualTo(1000);
+        }
+
+        @Test
+        void shouldPresizeLargeListFromHeader() throws IOException {
+            CustomList<Integer> source = new CustomList<>();
+            for (int i = 0; i < 100_000; i++) {
+                source.add(i);
+            }
+
+            CustomList<Integer> list = read(codec, write(codec, source));
+
+            assertThat(list).containsExactlyElementsOf(source);
+            assertThat(list.capacity()).isEqualTo(100_000);
+        }
+
+        @Test
+        void shouldThrowWhenElementIsNull() {
+            assertThatNullPointerException()
+                    .isThrownBy(() -> write(codec, Arrays.asList(1, null)))
+                    .withMessage("The element cannot be null.");
+        }
+    }
+
+    @Nested
+    class VariableWidth {
+        private final CustomListCodec<String> codec = new CustomListCodec<>(ElementCodec.utf8(), 32);
+
+        @Test
+        void shouldRoundTripStringsAndNulls() throws IOException {
+            List<String> list = Arrays.asList("a", null, "", "\u00FCn\u00EFc\u00F6d\u00E9", "\uD83D\uDE00", "\uD800");
+
+            assertThat(read(codec, write(codec, list))).containsExactly("a", null, "", "\u00FCn\u00EFc\u00F6d\u00E9", "\uD83D\uDE00", "?");
+        }
+
+        @Test
+        void shouldHandleElementsLargerThanBuffer() throws IOException {
+            char[] chars = new char[1000];
+            Arrays.fill(chars, 'x');
+            List<String> list = Arrays.asList("head", new String(chars), "tail");
+
+            assertThat(read(codec, write(codec, list))).containsExactlyElementsOf(list);
+        }
+
+        @Test
+        void shouldReadFromChannelReturningSingleBytes() throws IOException {
+            char[] chars = new char[200];
+            Arrays.fill(chars, 'y');
+            List<String> list = Arrays.asList("a", new String(chars), null, "b");
+
+            assertThat(codec.read(trickle(write(codec, list)))).containsExactlyElementsOf(list);
+        }
+
+        @Test
+        void shouldReadWholeChunksAtOnce() throws IOException {
+            CustomListCodec<String> large = new CustomListCodec<>(ElementCodec.utf8(), 1024);
+            List<String> list = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                list.add(i % 7 == 0 ? null : Integer.toString(i));
+            }
+            byte[] bytes = write(large, list);
+            AtomicInteger reads = new AtomicInteger();
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes));
+
+            CustomList<String> read = large.read(new ReadableByteChannel() {
+                @Override
+                public int read(ByteBuffer dst) throws IOException {
+                    reads.incrementAndGet();
+                    return channel.read(dst);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return channel.isOpen();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    channel.close();
+                }
+            });
+
+            assertThat(read).containsExactlyElementsOf(list);
+            assertThat(reads.get()).isLessThan(list.size() / 10);
+        }
+
+        @Test
+        void bytesShouldRoundTrip() throws IOException {
+            CustomListCodec<byte[]> bytes = new CustomListCodec<>(ElementCodec.bytes());
+
+            CustomList<byte[]> list = read(bytes, write(bytes, Arrays.asList(new byte[]{1, 2}, new byte[0])));
+
+            assertThat(list.get(0)).containsExactly(1, 2);
+            assertThat(list.get(1)).isEmpty();
+        }
+    }
+
+    @Nested
+    class Corruption {
+        private final CustomListCodec<Integer> codec = new CustomListCodec<>(ElementCodec.fixed(FixedWidthCodec.ints()));
+
+        @Test
+        void shouldThrowWhenStreamIsNotList() {
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> read(codec, new byte[16]))
+                    .withMessage("The stream does not hold a list.");
+        }
+
+        @Test
+        void shouldThrowWhenCodecWidthDiffers() throws IOException {
+            byte[] bytes = write(new CustomListCodec<>(ElementCodec.fixed(FixedWidthCodec.longs())), Arrays.asList(1L));
+
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> read(codec, bytes))
+                    .withMessage("The stream holds elements of width 8, but the codec has width 4.");
+        }
+
+        @Test
+        void shouldThrowWhenStreamEndsEarly() throws IOException {
+            byte[] bytes = write(codec, Arrays.asList(1, 2, 3));
+
+            assertThatExceptionOfType(EOFException.class)
+                    .isThrownBy(() -> read(codec, Arrays.copyOf(bytes, bytes.length - 1)));
+        }
+
+        @Test
+        void shouldThrowWhenHeaderClaimsMoreElementsThanStreamHolds() throws IOException {
+            byte[] bytes = write(codec, Arrays.asList(1, 2, 3));
+            ByteBuffer.wrap(bytes).putInt(9, Integer.MAX_VALUE - 8);
+
+            assertThatExceptionOfType(EOFException.class)
+                    .isThrownBy(() -> read(codec, bytes));
+        }
+
+        @Test
+        void shouldThrowWhenLengthOverflows() throws IOException {
+            CustomListCodec<String> strings = new CustomListCodec<>(ElementCodec.utf8());
+            byte[] overflowing = stream(strings, 1, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F);
+            byte[] negative = stream(strings, 1, 0xFF, 0xFF, 0xFF, 0xFF, 0x08);
+
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> read(strings, overflowing))
+                    .withMessage("The stream holds a malformed length.");
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> read(strings, negative))
+                    .withMessage("The stream holds a malformed length.");
+        }
+
+        @Test
+        void shouldThrowWhenElementIsLongerThanChunk() throws IOException {
+            CustomListCodec<String> strings = new CustomListCodec<>(ElementCodec.utf8());
+            byte[] bytes = stream(strings, 1, 0xF1, 0xFF, 0xFF, 0xFF, 0x07);
+
+            assertThatExceptionOfType(IOException.class)
+                    .isThrownBy(() -> read(strings, bytes))
+                    .withMessage("The stream holds a malformed chunk.");
+        }
+
+        @Test
+        void shouldThrowWhenChunkClaimsMoreBytesThanStreamHolds() throws IOException {
+            byte[] bytes = stream(codec, 1, 0, 0, 0, 1);
+            ByteBuffer.wrap(bytes).putInt(13, Integer.MAX_VALUE - 8);
+
+            assertThatExceptionOfType(EOFException.class)
+                    .isThrownBy(() -> read(codec, bytes));
+        }
+
+        /**
+         * @return A stream of {@code size} elements holding a single chunk of {@code chunk}.
+         */
+        private <E> byte[] stream(CustomListCodec<E> codec, int size, int... chunk) throws IOException {
+            ByteBuffer bytes = ByteBuffer.allocate(17 + chunk.length);
+            bytes.put(write(codec, Collections.emptyList())).putInt(9, size).putInt(chunk.length);
+            for (int b : chunk) {
+                bytes.put((byte) b);
+            }
+            return bytes.array();
+        }
+    }
+
+    @Nested
+    class SharedChannel {
+
+        @Test
+        void shouldNotReadPastFixedWidthList() throws IOException {
+            CustomListCodec<Integer> codec = new CustomListCodec<>(ElementCodec.fixed(FixedWidthCodec.ints()));
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(
+                    concat(write(codec, Arrays.asList(1, 2)), write(codec, Arrays.asList(3)))));
+
+            assertThat(codec.read(channel)).containsExactly(1, 2);
+            assertThat(codec.read(channel)).containsExactly(3);
+        }
+
+        @Test
+        void shouldNotReadPastVariableWidthList() throws IOException {
+            CustomListCodec<String> codec = new CustomListCodec<>(ElementCodec.utf8());
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(
+                    concat(write(codec, Arrays.asList("a", null)), write(codec, Arrays.asList("b")))));
+
+            assertThat(codec.read(channel)).containsExactly("a", null);
+            assertThat(codec.read(channel)).containsExactly("b");
+        }
+
+        private byte[] concat(byte[] first, byte[] second) {
+            byte[] bytes = Arrays.copyOf(first, first.length + second.length);
+            System.arraycopy(second, 0, bytes, first.length, second.length);
+            return bytes;
+        }
+    }
+}
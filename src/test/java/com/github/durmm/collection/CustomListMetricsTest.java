@@ -0,0 +1,210 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CustomListMetricsTest {
+
+    private CustomListMetrics metrics;
+    private CustomList<String> list;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CustomListMetrics();
+        list = new CustomList<>(2);
+        list.setListener(metrics);
+    }
+
+    @Nested
+    class Resizes {
+        @Test
+        void shouldCountResizesAndCopiedElements() {
+            list.addAll(Arrays.asList("a", "b"));
+            list.add("c");
+            list.add("d");
+            list.add("e");
+
+            assertThat(metrics.getResizeCount()).isEqualTo(2);
+            assertThat(metrics.getCopiedElements()).isEqualTo(2 + 4);
+            assertThat(metrics.getCopiedBytes()).isEqualTo(6 * CustomListMetrics.REFERENCE_BYTES);
+            assertThat(metrics.getPeakCapacity()).isEqualTo(8);
+        }
+
+        @Test
+        void shouldKeepPeakCapacityAfterTrim() {
+            list.ensureCapacity(100);
+            list.trimToSize();
+
+            assertThat(metrics.getPeakCapacity()).isEqualTo(100);
+        }
+
+        @Test
+        void shouldReportInitialCapacityAsPeakWithoutResizes() {
+            CustomList<String> presized = new CustomList<>(16);
+            presized.setListener(metrics);
+            presized.add("a");
+
+            assertThat(metrics.getResizeCount()).isZero();
+            assertThat(metrics.getPeakCapacity()).isEqualTo(16);
+        }
+
+        @Test
+        void shouldCountCopiesOfSnapshotSharedArray() {
+            list.addAll(Arrays.asList("a", "b"));
+            long resizes = metrics.getResizeCount();
+            long copied = metrics.getCopiedElements();
+
+            list.snapshot();
+            list.set(0, "z");
+            list.set(1, "y");
+
+            assertThat(metrics.getResizeCount()).isEqualTo(resizes + 1);
+            assertThat(metrics.getCopiedElements()).isEqualTo(copied + list.capacity());
+        }
+
+        @Test
+        void shouldCountReallocationOfSnapshotSharedArrayOnClear() {
+            list.addAll(Arrays.asList("a", "b"));
+            long resizes = metrics.getResizeCount();
+
+            list.snapshot();
+            list.clear();
+
+            assertThat(metrics.getResizeCount()).isEqualTo(resizes + 1);
+        }
+    }
+
+    @Nested
+    class Scans {
+        @Test
+        void shouldRecordScanLengthOfHit() {
+            list.addAll(Arrays.asList("a", "b", "c", "d"));
+
+            list.indexOf("b");
+            list.contains("d");
+
+            assertThat(metrics.getScanCount()).isEqualTo(2);
+            assertThat(metrics.getAverageScanLength()).isEqualTo(3.0);
+        }
+
+        @Test
+        void shouldRecordWholeListForMiss() {
+            list.addAll(Arrays.asList("a", "b", "c", "d"));
+
+            list.indexOf("x");
+            list.lastIndexOf("x");
+
+            assertThat(metrics.getAverageScanLength()).isEqualTo(4.0);
+        }
+
+        @Test
+        void shouldRecordScanLengthOfLastIndexOfFromEnd() {
+            list.addAll(Arrays.asList("a", "b", "c", "d"));
+
+            list.lastIndexOf("c");
+
+            assertThat(metrics.getAverageScanLength()).isEqualTo(2.0);
+        }
+
+        @Test
+        void shouldNotScanWhenIndexed() {
+            list.addAll(Arrays.asList("a", "b", "c", "d"));
+            list.setIndexed(true);
+
+            list.contains("d");
+
+            assertThat(metrics.getScanCount()).isZero();
+        }
+    }
+
+    @Nested
+    class Shifts {
+        @Test
+        void shouldRecordInsertShiftDistance() {
+            list.addAll(Arrays.asList("a", "b", "c", "d"));
+
+            list.add(1, "x");
+            list.addAll(0, Arrays.asList("y", "z"));
+
+            assertThat(metrics.getInsertCount()).isEqualTo(2);
+            assertThat(metrics.getAverageInsertShift()).isEqualTo((3 + 5) / 2.0);
+        }
+
+        @Test
+        void shouldRecordRemoveShiftDistance() {
+            list.addAll(Arrays.asList("a", "b", "c", "d", "e", "f"));
+
+            list.remove(0);
+            list.removeRange(0, 2);
+            list.removeIf("d"::equals);
+
+            assertThat(metrics.getRemoveCount()).isEqualTo(3);
+            assertThat(metrics.getAverageRemoveShift()).isEqualTo((5 + 3 + 2) / 3.0);
+        }
+
+        @Test
+        void shouldNotRecordAppends() {
+            list.add("a");
+            list.addAll(Arrays.asList("b", "c"));
+
+            assertThat(metrics.getInsertCount()).isZero();
+        }
+    }
+
+    @Nested
+    class Lifecycle {
+        @Test
+        void resetShouldClearCounters() {
+            list.addAll(Arrays.asList("a", "b", "c"));
+            list.indexOf("c");
+
+            metrics.reset();
+
+            assertThat(metrics.getResizeCount()).isZero();
+            assertThat(metrics.getScanCount()).isZero();
+            assertThat(metrics.getPeakCapacity()).isZero();
+            assertThat(metrics.getAverageScanLength()).isZero();
+        }
+
+        @Test
+        void removedListenerShouldNotBeNotified() {
+            list.setListener(null);
+
+            list.addAll(Arrays.asList("a", "b", "c"));
+
+            assertThat(metrics.getResizeCount()).isZero();
+        }
+
+        @Test
+        void registerShouldExposeMetricsOverJmx() throws JMException {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            list.addAll(Arrays.asList("a", "b", "c"));
+
+            ObjectName name = metrics.register("orders");
+            try {
+                assertThat(server.getAttribute(name, "ResizeCount")).isEqualTo(1L);
+                assertThat(server.getAttribute(name, "PeakCapacity")).isEqualTo(4);
+            } finally {
+                server.unregisterMBean(name);
+            }
+        }
+
+        @Test
+        void registerShouldThrowWhenNameIsNull() {
+            assertThatNullPointerException()
+                    .isThrownBy(() -> metrics.register(null))
+                    .withMessage("The name cannot be null.");
+        }
+    }
+}
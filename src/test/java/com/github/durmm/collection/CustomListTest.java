@@ -2,21 +2,31 @@ package com.github.durmm.collection;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assumptions.assumeThat;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -28,6 +38,14 @@ class CustomListTest {
         return new CustomList<>();
     }
 
+    private CustomList<Integer> createFilled(int size) {
+        CustomList<Integer> list = new CustomList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
     private final static class StringHolder {
         private final String value;
 
@@ -89,6 +107,257 @@ class CustomListTest {
         }
     }
 
+    @Nested
+    class Growth {
+        private void assertGrowsWith(CustomList<Integer> list) {
+            for (int i = 0; i < 1000; i++) {
+                list.add(i);
+            }
+
+            assertThat(list.size()).isEqualTo(1000);
+            for (int i = 0; i < 1000; i++) {
+                assertThat(list.get(i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        void addShouldGrowWithDoublingPolicy() {
+            assertGrowsWith(new CustomList<>(GrowthPolicy.doubling()));
+        }
+
+        @Test
+        void addShouldGrowWithOneAndHalfPolicy() {
+            assertGrowsWith(new CustomList<>(GrowthPolicy.oneAndHalf()));
+        }
+
+        @Test
+        void addShouldGrowWithFixedStepPolicy() {
+            assertGrowsWith(new CustomList<>(GrowthPolicy.fixedStep(7)));
+        }
+
+        @Test
+        void addShouldGrowWithCappedWastePolicy() {
+            assertGrowsWith(new CustomList<>(GrowthPolicy.cappedWaste(64)));
+        }
+
+        @Test
+        void addShouldGrowFromZeroInitialCapacity() {
+            assertGrowsWith(new CustomList<>(0));
+        }
+
+        @Test
+        void addShouldGrowAtLeastByOneWhenPolicyDoesNotGrow() {
+            assertGrowsWith(new CustomList<>(1, (capacity, minCapacity) -> capacity));
+        }
+
+        @Test
+        void constructorShouldThrowWhenInitialCapacityIsNegative() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new CustomList<>(-1));
+        }
+
+        @Test
+        void constructorShouldThrowWhenGrowthPolicyIsNull() {
+            assertThatNullPointerException()
+                    .isThrownBy(() -> new CustomList<>(null));
+        }
+    }
+
+    @Nested
+    class IndexOfAll {
+        @Test
+        void shouldReturnEveryMatchInOrder() {
+            CustomList<String> list = new CustomList<>();
+            list.addAll(Arrays.asList("a", "b", null, "a", "c", null, "a"));
+
+            assertThat(list.indexOfAll("a")).containsExactly(0, 3, 6);
+            assertThat(list.indexOfAll(null)).containsExactly(2, 5);
+        }
+
+        @Test
+        void shouldReturnEmptyArrayWhenMissing() {
+            CustomList<String> list = new CustomList<>();
+            list.addAll(Arrays.asList("a", "b"));
+
+            assertThat(list.indexOfAll("x")).isEmpty();
+            list.setIndexed(true);
+            assertThat(list.indexOfAll("x")).isEmpty();
+            assertThat(list.indexOfAll("b")).containsExactly(1);
+        }
+    }
+
+    @Nested
+    class SubListTest {
+        @Test
+        void shouldViewRangeOfList() {
+            List<Integer> subList = createFilled(10).subList(3, 7);
+
+            assertThat(subList).containsExactly(3, 4, 5, 6);
+            assertThat(subList.get(0)).isEqualTo(3);
+            assertThat(subList.indexOf(5)).isEqualTo(2);
+            assertThat(subList.lastIndexOf(9)).isEqualTo(-1);
+            assertThat(subList.contains(2)).isFalse();
+        }
+
+        @Test
+        void setShouldWriteThroughToList() {
+            CustomList<Integer> list = createFilled(10);
+
+            list.subList(3, 7).set(1, -1);
+
+            assertThat(list.get(4)).isEqualTo(-1);
+        }
+
+        @Test
+        void structuralChangesShouldWriteThroughToList() {
+            CustomList<Integer> list = createFilled(10);
+            List<Integer> subList = list.subList(3, 7);
+
+            subList.add(0, -1);
+            subList.remove(Integer.valueOf(6));
+            subList.addAll(Arrays.asList(-2, -3));
+
+            assertThat(subList).containsExactly(-1, 3, 4, 5, -2, -3);
+            assertThat(list).containsExactly(0, 1, 2, -1, 3, 4, 5, -2, -3, 7, 8, 9);
+        }
+
+        @Test
+        void clearShouldRemoveRangeFromList() {
+            CustomList<Integer> list = createFilled(10);
+
+            list.subList(2, 8).clear();
+
+            assertThat(list).containsExactly(0, 1, 8, 9);
+        }
+
+        @Test
+        void nestedSubListShouldKeepOuterViewsValid() {
+            CustomList<Integer> list = createFilled(10);
+            List<Integer> outer = list.subList(2, 9);
+            List<Integer> inner = outer.subList(1, 4);
+
+            inner.remove(0);
+            inner.add(-1);
+
+            assertThat(inner).containsExactly(4, 5, -1);
+            assertThat(outer).containsExactly(2, 4, 5, -1, 6, 7, 8);
+            assertThat(list).hasSize(10);
+        }
+
+        @Test
+        void shouldFailFastWhenListIsModified() {
+            CustomList<Integer> list = createFilled(10);
+            List<Integer> subList = list.subList(3, 7);
+
+            list.add(10);
+
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(() -> subList.get(0));
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(subList::size);
+        }
+
+        @Test
+        void getShouldThrowOutsideOfView() {
+            List<Integer> subList = createFilled(10).subList(3, 7);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> subList.get(4))
+                    .withMessage("Index: 4, Size: 4");
+        }
+
+        @Test
+        void subListShouldThrowWhenRangeIsInvalid() {
+            CustomList<Integer> list = createFilled(10);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.subList(-1, 2));
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.subList(0, 11));
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> list.subList(5, 4));
+        }
+
+        @Test
+        void iteratorAndSortShouldWorkOnView() {
+            CustomList<Integer> list = createFilled(10);
+            List<Integer> subList = list.subList(2, 6);
+
+            subList.sort(Comparator.reverseOrder());
+            subList.removeIf(e -> e == 3);
+
+            assertThat(list).containsExactly(0, 1, 5, 4, 2, 6, 7, 8, 9);
+        }
+    }
+
+    @Nested
+    class Capacity {
+        @Test
+        void trimToSizeShouldReleaseUnusedCapacity() {
+            CustomList<Integer> list = createFilled(17);
+
+            list.trimToSize();
+
+            assertThat(list.capacity()).isEqualTo(17);
+            assertThat(list).hasSize(17).endsWith(16);
+        }
+
+        @Test
+        void ensureCapacityShouldGrowAheadOfTime() {
+            CustomList<Integer> list = new CustomList<>();
+
+            list.ensureCapacity(1000);
+
+            assertThat(list.capacity()).isGreaterThanOrEqualTo(1000);
+            assertThat(list).isEmpty();
+        }
+
+        @Test
+        void ensureCapacityShouldNotShrink() {
+            CustomList<Integer> list = new CustomList<>(64);
+
+            list.ensureCapacity(10);
+
+            assertThat(list.capacity()).isEqualTo(64);
+        }
+
+        @Test
+        void shrinkPolicyShouldHalveCapacityWhenDrained() {
+            CustomList<Integer> list = createFilled(1024);
+            list.setShrinkPolicy(ShrinkPolicy.halving(0.25, 16));
+
+            list.removeRange(100, 1024);
+
+            assertThat(list.capacity()).isEqualTo(256);
+            assertThat(list).hasSize(100).startsWith(0, 1).endsWith(99);
+        }
+
+        @Test
+        void shrinkPolicyShouldNotShrinkBelowMinimalCapacity() {
+            CustomList<Integer> list = createFilled(1024);
+            list.setShrinkPolicy(ShrinkPolicy.halving(0.25, 64));
+
+            list.clear();
+
+            assertThat(list.capacity()).isEqualTo(64);
+        }
+
+        @Test
+        void shrinkPolicyShouldNotThrashAroundThreshold() {
+            CustomList<Integer> list = createFilled(64);
+            list.setShrinkPolicy(ShrinkPolicy.halving(0.25, 16));
+            list.removeRange(15, 64);
+            int capacity = list.capacity();
+
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+                list.remove(list.size() - 1);
+            }
+
+            assertThat(list.capacity()).isEqualTo(capacity);
+        }
+    }
+
     @Nested
     class AddAtIndex {
         @Test
@@ -455,6 +724,95 @@ class CustomListTest {
         }
     }
 
+    @Nested
+    class BatchRemove {
+        @Test
+        void retainAllShouldKeepOnlyElementsOfCollection() {
+            List<Integer> list = createFilled(6);
+
+            assertThat(list.retainAll(Arrays.asList(1, 3, 5, 7))).isTrue();
+
+            assertThat(list).containsExactly(1, 3, 5);
+        }
+
+        @Test
+        void retainAllShouldReturnFalseWhenAllElementsAreKept() {
+            List<Integer> list = createFilled(3);
+
+            assertThat(list.retainAll(Arrays.asList(0, 1, 2))).isFalse();
+        }
+
+        @Test
+        void retainAllShouldThrowWhenCollectionIsNull() {
+            List<Integer> list = create();
+
+            assertThatNullPointerException()
+                    .isThrownBy(() -> list.retainAll(null));
+        }
+
+        @Test
+        void removeIfShouldRemoveMatchingElementsInOrder() {
+            List<Integer> list = createFilled(10);
+
+            assertThat(list.removeIf(e -> e % 3 == 0)).isTrue();
+
+            assertThat(list).containsExactly(1, 2, 4, 5, 7, 8);
+        }
+
+        @Test
+        void removeIfShouldKeepUntestedElementsWhenFilterThrows() {
+            List<Integer> list = createFilled(6);
+
+            assertThatIllegalStateException().isThrownBy(() -> list.removeIf(e -> {
+                if (e == 3) {
+                    throw new IllegalStateException();
+                }
+                return e % 2 == 0;
+            }));
+
+            assertThat(list).containsExactly(1, 3, 4, 5);
+        }
+
+        @Test
+        void removeRangeShouldRemoveElementsBetweenIndexes() {
+            CustomList<Integer> list = createFilled(6);
+
+            list.removeRange(1, 4);
+
+            assertThat(list).containsExactly(0, 4, 5);
+        }
+
+        @Test
+        void removeRangeShouldKeepIndexInSync() {
+            CustomList<Integer> list = createFilled(6);
+            list.setIndexed(true);
+
+            list.removeRange(0, 2);
+
+            assertThat(list.contains(1)).isFalse();
+            assertThat(list.indexOf(5)).isEqualTo(3);
+        }
+
+        @Test
+        void removeRangeShouldThrowWhenIndexesAreReversed() {
+            CustomList<Integer> list = createFilled(6);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.removeRange(3, 2));
+        }
+
+        @Test
+        void removeAllShouldNotAffectSnapshot() {
+            CustomList<Integer> list = createFilled(4);
+            List<Integer> snapshot = list.snapshot();
+
+            list.removeAll(Arrays.asList(1, 2));
+
+            assertThat(snapshot).containsExactly(0, 1, 2, 3);
+            assertThat(list).containsExactly(0, 3);
+        }
+    }
+
     @Nested
     class Set {
         @Test
@@ -665,6 +1023,114 @@ class CustomListTest {
         }
     }
 
+    @Nested
+    class ListIteratorTest {
+        @Test
+        void previousShouldWalkBackwards() {
+            List<Integer> list = create();
+            list.add(1);
+            list.add(2);
+
+            ListIterator<Integer> iterator = list.listIterator(2);
+
+            assertThat(iterator.previous()).isEqualTo(2);
+            assertThat(iterator.previous()).isEqualTo(1);
+            assertThat(iterator.hasPrevious()).isFalse();
+        }
+
+        @Test
+        void setAndAddShouldModifyListAtCursor() {
+            List<Integer> list = create();
+            list.add(1);
+            list.add(3);
+
+            ListIterator<Integer> iterator = list.listIterator();
+            iterator.next();
+            iterator.set(0);
+            iterator.add(2);
+
+            assertThat(iterator.nextIndex()).isEqualTo(2);
+            assertThat(list).containsExactly(0, 2, 3);
+        }
+
+        @Test
+        void listIteratorShouldThrowWhenIndexGreaterThenSize() {
+            List<Integer> list = create();
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.listIterator(1));
+        }
+    }
+
+    @Nested
+    class CursorTest {
+        @Test
+        void cursorShouldVisitElementsAndBeReusable() {
+            CustomList<String> list = new CustomList<>();
+            list.add("a");
+            list.add("b");
+            Cursor<String> cursor = list.cursor();
+
+            for (int pass = 0; pass < 2; pass++) {
+                cursor.reset();
+                List<String> actual = new ArrayList<>();
+                while (cursor.advance()) {
+                    actual.add(cursor.index() + cursor.element());
+                }
+
+                assertThat(actual).containsExactly("0a", "1b");
+            }
+        }
+
+        @Test
+        void elementShouldThrowWhenCursorIsNotAtElement() {
+            CustomList<String> list = new CustomList<>();
+            list.add("a");
+            Cursor<String> cursor = list.cursor();
+
+            assertThatIllegalStateException().isThrownBy(cursor::element);
+            cursor.advance();
+            cursor.advance();
+            assertThatIllegalStateException().isThrownBy(cursor::element);
+        }
+
+        @Test
+        void advanceShouldThrowWhenListIsModifiedUntilReset() {
+            CustomList<String> list = new CustomList<>();
+            list.add("a");
+            Cursor<String> cursor = list.cursor();
+
+            list.add("b");
+
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(cursor::advance);
+            cursor.reset();
+            assertThat(cursor.advance()).isTrue();
+        }
+
+        @Test
+        void forEachIndexedShouldPassIndexes() {
+            CustomList<String> list = new CustomList<>();
+            list.add("a");
+            list.add("b");
+
+            Map<Integer, String> actual = new LinkedHashMap<>();
+            list.forEachIndexed((element, index) -> actual.put(index, element));
+
+            assertThat(actual).containsExactly(entry(0, "a"), entry(1, "b"));
+        }
+
+        @Test
+        void forEachIndexedShouldThrowWhenListIsModified() {
+            CustomList<String> list = new CustomList<>();
+            list.add("a");
+            list.add("b");
+
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(() -> list.forEachIndexed((element, index) -> list.remove(index)));
+        }
+    }
+
     @Nested
     class BulkAdd {
         @Test
@@ -756,6 +1222,56 @@ class CustomListTest {
             assertThat(list).containsExactly(1, 2, 3, 4, 5, 6);
         }
 
+        @Test
+        void addAllFromCustomListShouldCopyItsElements() {
+            CustomList<Integer> list = new CustomList<>();
+            CustomList<Integer> other = new CustomList<>();
+            list.add(1);
+            list.add(4);
+            other.add(2);
+            other.add(3);
+
+            list.addAll(1, other);
+            other.set(0, 5);
+
+            assertThat(list).containsExactly(1, 2, 3, 4);
+        }
+
+        @Test
+        void addAllFromItselfShouldDuplicateElements() {
+            List<Integer> list = create();
+            list.add(1);
+            list.add(2);
+
+            list.addAll(1, list);
+
+            assertThat(list).containsExactly(1, 1, 2, 2);
+        }
+
+        @Test
+        void addAllShouldGrowPastCapacityAtOnce() {
+            List<Integer> list = new CustomList<>(1);
+            List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+            list.addAll(expected);
+
+            assertThat(list).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        void addAllShouldKeepIndexInSync() {
+            CustomList<Integer> list = new CustomList<>();
+            list.setIndexed(true);
+            list.add(1);
+            list.add(4);
+
+            list.addAll(1, Arrays.asList(2, 3, 2));
+
+            assertThat(list.indexOf(2)).isEqualTo(1);
+            assertThat(list.lastIndexOf(2)).isEqualTo(3);
+            assertThat(list.indexOf(4)).isEqualTo(4);
+        }
+
         @Test
         void addAllFromCollectionShouldAppendItToExistingOne() {
             List<Integer> list = create();
@@ -969,6 +1485,366 @@ class CustomListTest {
         }
     }
 
+    @Nested
+    class Indexed {
+        private <T> CustomList<T> createIndexed() {
+            CustomList<T> list = new CustomList<>();
+            list.setIndexed(true);
+            return list;
+        }
+
+        @Test
+        void setIndexedShouldIndexExistingElements() {
+            CustomList<String> list = new CustomList<>();
+            list.add("a");
+            list.add("b");
+
+            list.setIndexed(true);
+
+            assertThat(list.isIndexed()).isTrue();
+            assertThat(list.contains("b")).isTrue();
+            assertThat(list.indexOf("b")).isEqualTo(1);
+        }
+
+        @Test
+        void indexOfShouldFollowShiftingOperations() {
+            CustomList<String> list = createIndexed();
+            list.add("a");
+            list.add("b");
+            list.add("c");
+
+            list.add(0, "z");
+            assertThat(list.indexOf("c")).isEqualTo(3);
+
+            list.remove(1);
+            assertThat(list.indexOf("c")).isEqualTo(2);
+            assertThat(list.contains("a")).isFalse();
+        }
+
+        @Test
+        void indexOfShouldFollowReplacedElements() {
+            CustomList<String> list = createIndexed();
+            list.add("a");
+            list.add("b");
+            list.add("a");
+
+            list.set(0, "b");
+
+            assertThat(list.indexOf("a")).isEqualTo(2);
+            assertThat(list.indexOf("b")).isEqualTo(0);
+        }
+
+        @Test
+        void clearShouldEmptyIndex() {
+            CustomList<String> list = createIndexed();
+            list.add("a");
+
+            list.clear();
+
+            assertThat(list.contains("a")).isFalse();
+            assertThat(list.indexOf("a")).isEqualTo(-1);
+        }
+
+        @Test
+        void indexShouldSupportNullElements() {
+            CustomList<String> list = createIndexed();
+            list.add("a");
+            list.add(null);
+
+            assertThat(list.contains(null)).isTrue();
+            assertThat(list.indexOf(null)).isEqualTo(1);
+            assertThat(list.remove(null)).isTrue();
+            assertThat(list.contains(null)).isFalse();
+        }
+
+        @Test
+        void randomOperationsShouldMatchArrayList() {
+            CustomList<Integer> list = createIndexed();
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(3);
+
+            for (int i = 0; i < 5000; i++) {
+                Integer value = random.nextInt(50);
+                int operation = random.nextInt(6);
+                if (operation == 0 && !expected.isEmpty()) {
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                } else if (operation == 1) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                } else if (operation == 2 && !expected.isEmpty()) {
+                    int index = random.nextInt(expected.size());
+                    assertThat(list.set(index, value)).isEqualTo(expected.set(index, value));
+                } else if (operation == 3) {
+                    assertThat(list.remove(value)).isEqualTo(expected.remove(value));
+                } else {
+                    list.add(value);
+                    expected.add(value);
+                }
+
+                assertThat(list.contains(value)).isEqualTo(expected.contains(value));
+                assertThat(list.indexOf(value)).isEqualTo(expected.indexOf(value));
+                assertThat(list.lastIndexOf(value)).isEqualTo(expected.lastIndexOf(value));
+            }
+        }
+    }
+
+    @Nested
+    class SpliteratorTest {
+        @Test
+        void spliteratorShouldBeSizedAndOrdered() {
+            List<Integer> list = create();
+            list.add(1);
+            list.add(2);
+
+            Spliterator<Integer> spliterator = list.spliterator();
+
+            assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+            assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+            assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+            assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(2);
+        }
+
+        @Test
+        void trySplitShouldHalveRange() {
+            List<Integer> list = create();
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            Spliterator<Integer> suffix = list.spliterator();
+            Spliterator<Integer> prefix = suffix.trySplit();
+
+            List<Integer> actual = new ArrayList<>();
+            prefix.forEachRemaining(actual::add);
+            assertThat(actual).containsExactly(0, 1, 2, 3, 4);
+
+            actual.clear();
+            suffix.forEachRemaining(actual::add);
+            assertThat(actual).containsExactly(5, 6, 7, 8, 9);
+        }
+
+        @Test
+        void streamShouldVisitAllElementsInOrder() {
+            List<Integer> list = create();
+            for (int i = 0; i < 100_000; i++) {
+                list.add(i);
+            }
+
+            assertThat(list.parallelStream().mapToLong(Integer::longValue).sum())
+                    .isEqualTo(99_999L * 100_000L / 2);
+            assertThat(list.stream().limit(3).collect(Collectors.toList()))
+                    .containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void tryAdvanceShouldThrowWhenListIsModified() {
+            List<Integer> list = create();
+            list.add(1);
+            list.add(2);
+
+            Spliterator<Integer> spliterator = list.spliterator();
+
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(() -> spliterator.tryAdvance(list::add));
+        }
+
+        @Test
+        void shouldThrowWhenArrayShrinksAfterBinding() {
+            CustomList<Integer> list = createFilled(10);
+            Spliterator<Integer> spliterator = list.spliterator();
+            spliterator.tryAdvance(e -> { });
+
+            list.removeRange(1, 10);
+            list.trimToSize();
+
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(() -> spliterator.tryAdvance(e -> { }));
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(() -> spliterator.forEachRemaining(e -> { }));
+        }
+    }
+
+    @Nested
+    class Parallel {
+        private static final int SIZE = 100_000;
+
+        @Test
+        void parallelForEachShouldVisitEveryElement() {
+            CustomList<Integer> list = createFilled(SIZE);
+            AtomicLong sum = new AtomicLong();
+
+            list.parallelForEach(sum::addAndGet);
+
+            assertThat(sum.get()).isEqualTo((SIZE - 1L) * SIZE / 2);
+        }
+
+        @Test
+        void parallelForEachShouldRunInCallersPool() throws Exception {
+            CustomList<Integer> list = createFilled(SIZE);
+            ForkJoinPool pool = new ForkJoinPool(2);
+            ConcurrentLinkedQueue<Thread> threads = new ConcurrentLinkedQueue<>();
+
+            try {
+                pool.submit(() -> list.parallelForEach(e -> threads.add(Thread.currentThread()))).get();
+            } finally {
+                pool.shutdown();
+            }
+
+            assertThat(threads).isNotEmpty().allMatch(thread -> thread instanceof ForkJoinWorkerThread
+                    && ((ForkJoinWorkerThread) thread).getPool() == pool);
+        }
+
+        @Test
+        void parallelReplaceAllShouldReplaceEveryElement() {
+            CustomList<Integer> list = createFilled(SIZE);
+
+            list.parallelReplaceAll(e -> e * 2);
+
+            for (int i = 0; i < SIZE; i++) {
+                assertThat(list.get(i)).isEqualTo(i * 2);
+            }
+        }
+
+        @Test
+        void parallelRemoveIfShouldKeepOrderOfRemainingElements() {
+            CustomList<Integer> list = createFilled(SIZE);
+
+            assertThat(list.parallelRemoveIf(e -> e % 3 == 0)).isTrue();
+
+            assertThat(list.size()).isEqualTo(SIZE - (SIZE + 2) / 3);
+            for (int i = 0; i < list.size(); i++) {
+                int expected = i / 2 * 3 + i % 2 + 1;
+                assertThat(list.get(i)).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void parallelRemoveIfShouldReturnFalseWhenNothingMatches() {
+            CustomList<Integer> list = createFilled(SIZE);
+
+            assertThat(list.parallelRemoveIf(e -> e < 0)).isFalse();
+            assertThat(list.size()).isEqualTo(SIZE);
+        }
+
+        @Test
+        void parallelRemoveIfShouldKeepIndexInSync() {
+            CustomList<Integer> list = createFilled(SIZE);
+            list.setIndexed(true);
+
+            list.parallelRemoveIf(e -> e < 10);
+
+            assertThat(list.contains(5)).isFalse();
+            assertThat(list.indexOf(10)).isEqualTo(0);
+        }
+
+        @Test
+        void parallelSortShouldSortWithComparator() {
+            CustomList<Integer> list = createFilled(SIZE);
+
+            list.parallelSort(Comparator.reverseOrder());
+
+            for (int i = 0; i < SIZE; i++) {
+                assertThat(list.get(i)).isEqualTo(SIZE - 1 - i);
+            }
+        }
+
+        @Test
+        void sortShouldUseNaturalOrderingWhenComparatorIsNull() {
+            CustomList<Integer> list = new CustomList<>();
+            list.add(3);
+            list.add(1);
+            list.add(2);
+
+            list.sort(null);
+
+            assertThat(list.get(0)).isEqualTo(1);
+            assertThat(list.get(2)).isEqualTo(3);
+        }
+
+        @Test
+        void replaceAllShouldReplaceEveryElement() {
+            CustomList<Integer> list = createFilled(SIZE);
+
+            list.replaceAll(e -> -e);
+
+            assertThat(list.get(SIZE - 1)).isEqualTo(1 - SIZE);
+        }
+    }
+
+    @Nested
+    class Snapshots {
+        @Test
+        void snapshotShouldContainCurrentElements() {
+            CustomList<Integer> list = createFilled(3);
+
+            assertThat(list.snapshot()).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void snapshotShouldNotSeeLaterAppends() {
+            CustomList<Integer> list = createFilled(3);
+            List<Integer> snapshot = list.snapshot();
+
+            for (int i = 0; i < 100; i++) {
+                list.add(9);
+            }
+
+            assertThat(snapshot).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void snapshotShouldNotSeeLaterWrites() {
+            CustomList<Integer> list = createFilled(3);
+            List<Integer> snapshot = list.snapshot();
+
+            list.set(0, 7);
+            list.remove(1);
+            list.add(0, 8);
+
+            assertThat(snapshot).containsExactly(0, 1, 2);
+            assertThat(list.get(0)).isEqualTo(8);
+            assertThat(list.get(1)).isEqualTo(7);
+            assertThat(list.get(2)).isEqualTo(2);
+        }
+
+        @Test
+        void snapshotShouldNotSeeClearOrSort() {
+            CustomList<Integer> list = createFilled(3);
+            List<Integer> first = list.snapshot();
+            list.sort(Comparator.reverseOrder());
+            List<Integer> second = list.snapshot();
+            list.clear();
+
+            assertThat(first).containsExactly(0, 1, 2);
+            assertThat(second).containsExactly(2, 1, 0);
+            assertThat(list.isEmpty()).isTrue();
+        }
+
+        @Test
+        void snapshotShouldNotSeeBulkRemoval() {
+            CustomList<Integer> list = createFilled(3);
+            List<Integer> snapshot = list.snapshot();
+
+            list.parallelRemoveIf(e -> e == 1);
+
+            assertThat(snapshot).containsExactly(0, 1, 2);
+            assertThat(list.size()).isEqualTo(2);
+            assertThat(list.get(1)).isEqualTo(2);
+        }
+
+        @Test
+        void snapshotShouldBeImmutable() {
+            List<Integer> snapshot = createFilled(3).snapshot();
+
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> snapshot.add(3));
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> snapshot.set(0, 3));
+        }
+    }
+
     @Nested
     class ToArray {
         @Test
@@ -0,0 +1,63 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleCustomListTest {
+
+    @Test
+    void addDoubleShouldStoreValues() {
+        DoubleCustomList list = new DoubleCustomList(1);
+
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        list.addDouble(0, 0.5);
+
+        assertThat(list.toDoubleArray()).containsExactly(0.5, 1.5, 2.5);
+    }
+
+    @Test
+    void containsDoubleShouldFindNaN() {
+        DoubleCustomList list = new DoubleCustomList();
+        list.addDouble(Double.NaN);
+
+        assertThat(list.containsDouble(Double.NaN)).isTrue();
+        assertThat(list.asList().contains(Double.NaN)).isTrue();
+    }
+
+    @Test
+    void containsDoubleShouldDistinguishSignedZeros() {
+        DoubleCustomList list = new DoubleCustomList();
+        list.addDouble(0.0);
+
+        assertThat(list.containsDouble(-0.0)).isFalse();
+        assertThat(list.indexOfDouble(0.0)).isEqualTo(0);
+    }
+
+    @Test
+    void asListShouldWriteThrough() {
+        DoubleCustomList list = new DoubleCustomList();
+        list.asList().add(1.0);
+        list.asList().set(0, 2.0);
+
+        assertThat(list.getDouble(0)).isEqualTo(2.0);
+        assertThat(list.asList()).containsExactly(2.0);
+    }
+
+    @Test
+    void asListIteratorShouldFailFastWhenListIsModifiedDirectly() {
+        DoubleCustomList list = new DoubleCustomList();
+        list.addDouble(1.0);
+        Iterator<Double> iterator = list.asList().iterator();
+
+        list.addDouble(1.0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class GapBufferCustomListTest {
+
+    private <T> List<T> create() {
+        return new GapBufferCustomList<>(2, GrowthPolicy.doubling());
+    }
+
+    @Nested
+    class Edits {
+        @Test
+        void addAtIndexShouldInsertAroundGap() {
+            List<String> list = create();
+            list.add("a");
+            list.add("d");
+
+            list.add(1, "b");
+            list.add(2, "c");
+            list.add(0, "_");
+
+            assertThat(list).containsExactly("_", "a", "b", "c", "d");
+        }
+
+        @Test
+        void removeShouldDeleteAroundGap() {
+            List<String> list = create();
+            list.add("a");
+            list.add("b");
+            list.add("c");
+            list.add("d");
+
+            assertThat(list.remove(1)).isEqualTo("b");
+            assertThat(list.remove(1)).isEqualTo("c");
+            assertThat(list.remove(0)).isEqualTo("a");
+
+            assertThat(list).containsExactly("d");
+        }
+
+        @Test
+        void getShouldSkipGap() {
+            List<Integer> list = create();
+            for (int i = 0; i < 10; i++) {
+                list.add(i);
+            }
+
+            list.add(3, 42);
+
+            assertThat(list.get(2)).isEqualTo(2);
+            assertThat(list.get(3)).isEqualTo(42);
+            assertThat(list.get(4)).isEqualTo(3);
+            assertThat(list.get(10)).isEqualTo(9);
+        }
+
+        @Test
+        void setShouldReplaceElementAfterGap() {
+            List<Integer> list = create();
+            list.add(1);
+            list.add(2);
+            list.add(0, 0);
+
+            assertThat(list.set(2, 5)).isEqualTo(2);
+            assertThat(list).containsExactly(0, 1, 5);
+        }
+
+        @Test
+        void clearShouldRemoveAllElements() {
+            List<Integer> list = create();
+            list.add(1);
+            list.add(0, 0);
+
+            list.clear();
+            list.add(7);
+
+            assertThat(list).containsExactly(7);
+        }
+    }
+
+    @Nested
+    class Exceptional {
+        @Test
+        void addAtIndexShouldThrowWhenIndexGreaterThenSize() {
+            List<Integer> list = create();
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.add(1, 1));
+        }
+
+        @Test
+        void getShouldThrowWhenIndexPointsIntoGap() {
+            List<Integer> list = create();
+            list.add(1);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.get(1));
+        }
+    }
+
+    @Test
+    void clusteredOperationsShouldMatchArrayList() {
+        List<Integer> list = create();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(5);
+        int cursor = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+            if (random.nextInt(3) == 0 && cursor < expected.size()) {
+                assertThat(list.remove(cursor)).isEqualTo(expected.remove(cursor));
+            } else {
+                list.add(cursor, i);
+                expected.add(cursor, i);
+            }
+
+            if (i % 1000 == 0) {
+                cursor = random.nextInt(expected.size() + 1);
+            }
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class GrowthPolicyTest {
+
+    @Nested
+    class Doubling {
+        @Test
+        void shouldDoubleCapacity() {
+            assertThat(GrowthPolicy.doubling().newCapacity(16, 17)).isEqualTo(32);
+        }
+
+        @Test
+        void shouldNotOverflowMaxCapacity() {
+            assertThat(GrowthPolicy.doubling().newCapacity(Integer.MAX_VALUE / 2 + 1, 0))
+                    .isEqualTo(GrowthPolicy.MAX_CAPACITY);
+        }
+    }
+
+    @Nested
+    class OneAndHalf {
+        @Test
+        void shouldGrowByHalf() {
+            assertThat(GrowthPolicy.oneAndHalf().newCapacity(16, 17)).isEqualTo(24);
+        }
+
+        @Test
+        void shouldNotOverflowMaxCapacity() {
+            assertThat(GrowthPolicy.oneAndHalf().newCapacity(GrowthPolicy.MAX_CAPACITY - 1, 0))
+                    .isEqualTo(GrowthPolicy.MAX_CAPACITY);
+        }
+    }
+
+    @Nested
+    class FixedStep {
+        @Test
+        void shouldGrowByStep() {
+            assertThat(GrowthPolicy.fixedStep(100).newCapacity(16, 17)).isEqualTo(116);
+        }
+
+        @Test
+        void shouldThrowWhenStepIsNotPositive() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> GrowthPolicy.fixedStep(0));
+        }
+    }
+
+    @Nested
+    class CappedWaste {
+        @Test
+        void shouldDoubleWhileCapacityIsBelowLimit() {
+            assertThat(GrowthPolicy.cappedWaste(1024).newCapacity(16, 17)).isEqualTo(32);
+        }
+
+        @Test
+        void shouldGrowByLimitWhenCapacityIsAboveIt() {
+            assertThat(GrowthPolicy.cappedWaste(1024).newCapacity(1 << 20, (1 << 20) + 1))
+                    .isEqualTo((1 << 20) + 1024);
+        }
+
+        @Test
+        void shouldThrowWhenLimitIsNotPositive() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> GrowthPolicy.cappedWaste(-1));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class IntCustomListTest {
+
+    @Nested
+    class Add {
+        @Test
+        void addIntShouldGrowPastInitialCapacity() {
+            IntCustomList list = new IntCustomList(1);
+
+            for (int i = 0; i < 1000; i++) {
+                list.addInt(i);
+            }
+
+            assertThat(list.size()).isEqualTo(1000);
+            assertThat(list.getInt(999)).isEqualTo(999);
+        }
+
+        @Test
+        void addIntAtIndexShouldShiftTail() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+            list.addInt(3);
+
+            list.addInt(1, 2);
+            list.addInt(0, 0);
+
+            assertThat(list.toIntArray()).containsExactly(0, 1, 2, 3);
+        }
+
+        @Test
+        void addIntAtIndexShouldThrowWhenIndexGreaterThenSize() {
+            IntCustomList list = new IntCustomList();
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.addInt(1, 1));
+        }
+    }
+
+    @Nested
+    class GetAndSet {
+        @Test
+        void getIntShouldThrowWhenListIsEmpty() {
+            IntCustomList list = new IntCustomList();
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.getInt(0));
+        }
+
+        @Test
+        void setIntShouldReturnPreviousValue() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+
+            assertThat(list.setInt(0, 2)).isEqualTo(1);
+            assertThat(list.getInt(0)).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class Remove {
+        @Test
+        void removeIntAtShouldReturnRemovedValue() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+            list.addInt(2);
+            list.addInt(3);
+
+            assertThat(list.removeIntAt(1)).isEqualTo(2);
+            assertThat(list.toIntArray()).containsExactly(1, 3);
+        }
+
+        @Test
+        void clearShouldRemoveAllValues() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+
+            list.clear();
+
+            assertThat(list.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    class Search {
+        @Test
+        void containsIntShouldFindPresentValue() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(5);
+
+            assertThat(list.containsInt(5)).isTrue();
+            assertThat(list.containsInt(6)).isFalse();
+        }
+
+        @Test
+        void indexOfIntShouldReturnFirstOccurrence() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(7);
+            list.addInt(5);
+            list.addInt(5);
+
+            assertThat(list.indexOfInt(5)).isEqualTo(1);
+            assertThat(list.lastIndexOfInt(5)).isEqualTo(2);
+            assertThat(list.indexOfInt(8)).isEqualTo(-1);
+        }
+
+        @Test
+        void indexOfIntShouldIgnoreRemovedValues() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(5);
+            list.removeIntAt(0);
+
+            assertThat(list.indexOfInt(5)).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    class ListView {
+        @Test
+        void asListShouldReflectValues() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+            list.addInt(2);
+
+            assertThat(list.asList()).containsExactly(1, 2);
+        }
+
+        @Test
+        void asListShouldWriteThrough() {
+            IntCustomList list = new IntCustomList();
+            List<Integer> view = list.asList();
+
+            view.add(1);
+            view.add(0, 0);
+            view.set(1, 5);
+
+            assertThat(list.toIntArray()).containsExactly(0, 5);
+        }
+
+        @Test
+        void asListShouldNotFindIncompatibleTypes() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+
+            assertThat(list.asList().contains(1L)).isFalse();
+            assertThat(list.asList().indexOf("1")).isEqualTo(-1);
+        }
+
+        @Test
+        void asListShouldThrowWhenAddingNull() {
+            IntCustomList list = new IntCustomList();
+
+            assertThatNullPointerException()
+                    .isThrownBy(() -> list.asList().add(null));
+        }
+
+        @Test
+        void asListIteratorShouldFailFastWhenListIsModifiedDirectly() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+            list.addInt(2);
+            Iterator<Integer> iterator = list.asList().iterator();
+            iterator.next();
+
+            list.removeIntAt(0);
+
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(iterator::next);
+        }
+
+        @Test
+        void asListIteratorShouldRemoveThroughView() {
+            IntCustomList list = new IntCustomList();
+            list.addInt(1);
+            list.addInt(2);
+            Iterator<Integer> iterator = list.asList().iterator();
+            iterator.next();
+
+            iterator.remove();
+
+            assertThat(iterator.next()).isEqualTo(2);
+            assertThat(list.toIntArray()).containsExactly(2);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
+class LongCustomListTest {
+
+    @Test
+    void addLongShouldStoreValuesBeyondIntRange() {
+        LongCustomList list = new LongCustomList(1);
+
+        list.addLong(Long.MAX_VALUE);
+        list.addLong(Long.MIN_VALUE);
+        list.addLong(1, 0L);
+
+        assertThat(list.toLongArray()).containsExactly(Long.MAX_VALUE, 0L, Long.MIN_VALUE);
+    }
+
+    @Test
+    void indexOfLongShouldReturnFirstOccurrence() {
+        LongCustomList list = new LongCustomList();
+        list.addLong(3L);
+        list.addLong(4L);
+        list.addLong(4L);
+
+        assertThat(list.containsLong(4L)).isTrue();
+        assertThat(list.indexOfLong(4L)).isEqualTo(1);
+        assertThat(list.lastIndexOfLong(4L)).isEqualTo(2);
+        assertThat(list.indexOfLong(5L)).isEqualTo(-1);
+    }
+
+    @Test
+    void asListShouldWriteThrough() {
+        LongCustomList list = new LongCustomList();
+        list.asList().add(1L);
+        list.asList().add(2L);
+        list.asList().remove(0);
+
+        assertThat(list.asList()).containsExactly(2L);
+        assertThat(list.getLong(0)).isEqualTo(2L);
+    }
+
+    @Test
+    void asListIteratorShouldFailFastWhenListIsModifiedDirectly() {
+        LongCustomList list = new LongCustomList();
+        list.addLong(1L);
+        Iterator<Long> iterator = list.asList().iterator();
+
+        list.addLong(1L);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+}
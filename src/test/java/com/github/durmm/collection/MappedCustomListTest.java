@@ -0,0 +1,155 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MappedCustomListTest {
+    private Path directory;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-custom-list");
+        file = directory.resolve("list.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    private void writeSize(int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, size);
+            channel.write(buffer, 12);
+        }
+    }
+
+    @Test
+    void openShouldCreateEmptyListWhenFileDoesNotExist() throws IOException {
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, FixedWidthCodec.longs())) {
+            assertThat(list).isEmpty();
+        }
+
+        assertThat(file).exists();
+    }
+
+    @Test
+    void reopenShouldRestoreElements() throws IOException {
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, FixedWidthCodec.longs(), 4)) {
+            for (long i = 0; i < 10; i++) {
+                list.add(i);
+            }
+            list.remove(0);
+            list.add(0, 42L);
+        }
+
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, FixedWidthCodec.longs(), 4)) {
+            assertThat(list).containsExactly(42L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        }
+    }
+
+    @Test
+    void failedInsertShouldNotReachFile() throws IOException {
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, FixedWidthCodec.longs(), 2)) {
+            list.add(1L);
+            list.add(2L);
+            list.add(3L);
+
+            assertThatNullPointerException()
+                    .isThrownBy(() -> list.add(1, null));
+        }
+
+        try (MappedCustomList<Long> list = MappedCustomList.open(file, FixedWidthCodec.longs(), 2)) {
+            assertThat(list).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    @Test
+    void reopenShouldNotDependOnSegmentSize() throws IOException {
+        try (MappedCustomList<Integer> list = MappedCustomList.open(file, FixedWidthCodec.ints(), 2)) {
+            for (int i = 0; i < 7; i++) {
+                list.add(i);
+            }
+        }
+
+        try (MappedCustomList<Integer> list = MappedCustomList.open(file, FixedWidthCodec.ints(), 8)) {
+            assertThat(list).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        }
+    }
+
+    @Test
+    void reopenShouldKeepClearedListEmpty() throws IOException {
+        try (MappedCustomList<Integer> list = MappedCustomList.open(file, FixedWidthCodec.ints(), 2)) {
+            list.add(1);
+            list.add(2);
+            list.add(3);
+            list.clear();
+            list.add(4);
+        }
+
+        try (MappedCustomList<Integer> list = MappedCustomList.open(file, FixedWidthCodec.ints(), 2)) {
+            assertThat(list).containsExactly(4);
+        }
+    }
+
+    @Test
+    void openShouldThrowWhenCodecWidthDiffers() throws IOException {
+        try (MappedCustomList<Integer> list = MappedCustomList.open(file, FixedWidthCodec.ints())) {
+            list.add(1);
+        }
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> MappedCustomList.open(file, FixedWidthCodec.longs()));
+    }
+
+    @Test
+    void openShouldThrowWhenStoredSizeExceedsFile() throws IOException {
+        try (MappedCustomList<Integer> list = MappedCustomList.open(file, FixedWidthCodec.ints(), 2)) {
+            list.add(1);
+        }
+        long length = Files.size(file);
+        writeSize(Integer.MAX_VALUE);
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> MappedCustomList.open(file, FixedWidthCodec.ints(), 2))
+                .withMessage("The file holds a corrupt size: " + Integer.MAX_VALUE);
+        assertThat(Files.size(file)).isEqualTo(length);
+
+        writeSize(-1);
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> MappedCustomList.open(file, FixedWidthCodec.ints(), 2))
+                .withMessage("The file holds a corrupt size: -1");
+    }
+
+    @Test
+    void openShouldThrowWhenCodecIsNull() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> MappedCustomList.open(file, null))
+                .withMessage("The codec cannot be null.");
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void openShouldThrowWhenFileIsNotList() throws IOException {
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> MappedCustomList.open(file, FixedWidthCodec.ints()));
+    }
+}
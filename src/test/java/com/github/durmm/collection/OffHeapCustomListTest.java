@@ -0,0 +1,251 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class OffHeapCustomListTest {
+
+    private final static class Point {
+        private final int x;
+        private final long y;
+
+        private Point(int x, long y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Point)) {
+                return false;
+            }
+
+            Point that = (Point) o;
+            return x == that.x && y == that.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y);
+        }
+    }
+
+    private final static class PointCodec implements FixedWidthCodec<Point> {
+        @Override
+        public int width() {
+            return Integer.BYTES + Long.BYTES;
+        }
+
+        @Override
+        public void encode(Point element, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, element.x);
+            buffer.putLong(offset + Integer.BYTES, element.y);
+        }
+
+        @Override
+        public Point decode(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getInt(offset), buffer.getLong(offset + Integer.BYTES));
+        }
+    }
+
+    @Nested
+    class Construction {
+        @Test
+        void constructorShouldThrowWhenCodecIsNull() {
+            assertThatNullPointerException()
+                    .isThrownBy(() -> new OffHeapCustomList<>(null))
+                    .withMessage("The codec cannot be null.");
+        }
+
+        @Test
+        void constructorShouldThrowWhenCodecWidthIsNotPositive() {
+            FixedWidthCodec<Long> empty = new FixedWidthCodec<Long>() {
+                @Override
+                public int width() {
+                    return 0;
+                }
+
+                @Override
+                public void encode(Long element, ByteBuffer buffer, int offset) {
+                }
+
+                @Override
+                public Long decode(ByteBuffer buffer, int offset) {
+                    return 0L;
+                }
+            };
+
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new OffHeapCustomList<>(empty))
+                    .withMessage("The codec width must be positive: 0");
+        }
+
+        @Test
+        void constructorShouldThrowWhenSegmentSizeIsNotPowerOfTwo() {
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> new OffHeapCustomList<>(FixedWidthCodec.longs(), 6));
+        }
+    }
+
+    @Nested
+    class Access {
+        @Test
+        void getShouldDecodeAddedElements() {
+            List<Point> list = new OffHeapCustomList<>(new PointCodec());
+
+            list.add(new Point(1, 10L));
+            list.add(new Point(2, 20L));
+
+            assertThat(list).containsExactly(new Point(1, 10L), new Point(2, 20L));
+        }
+
+        @Test
+        void setShouldReturnPreviousElement() {
+            List<Long> list = new OffHeapCustomList<>(FixedWidthCodec.longs());
+            list.add(1L);
+
+            assertThat(list.set(0, 2L)).isEqualTo(1L);
+            assertThat(list.get(0)).isEqualTo(2L);
+        }
+
+        @Test
+        void getShouldThrowWhenIndexIsOutOfRange() {
+            List<Long> list = new OffHeapCustomList<>(FixedWidthCodec.longs());
+            list.add(1L);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.get(1));
+        }
+
+        @Test
+        void elementsShouldBeStoredByValue() {
+            List<Double> list = new OffHeapCustomList<>(FixedWidthCodec.doubles());
+            list.add(1.5);
+
+            assertThat(list.get(0)).isNotSameAs(list.get(0)).isEqualTo(1.5);
+        }
+    }
+
+    @Nested
+    class Modification {
+        @Test
+        void addAtIndexShouldShiftAcrossSegments() {
+            List<Integer> list = new OffHeapCustomList<>(FixedWidthCodec.ints(), 2);
+            for (int i = 1; i <= 5; i++) {
+                list.add(i);
+            }
+
+            list.add(0, 0);
+
+            assertThat(list).containsExactly(0, 1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void addAtIndexShouldKeepListWhenEncodingFails() {
+            List<Integer> list = new OffHeapCustomList<>(FixedWidthCodec.ints(), 2);
+            list.add(1);
+            list.add(2);
+            list.add(3);
+
+            assertThatNullPointerException()
+                    .isThrownBy(() -> list.add(0, null));
+
+            assertThat(list).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void setShouldKeepElementWhenEncodingFails() {
+            PointCodec points = new PointCodec();
+            List<Point> list = new OffHeapCustomList<>(new FixedWidthCodec<Point>() {
+                @Override
+                public int width() {
+                    return points.width();
+                }
+
+                @Override
+                public void encode(Point element, ByteBuffer buffer, int offset) {
+                    buffer.putInt(offset, element.x);
+                    if (element.y < 0) {
+                        throw new IllegalArgumentException("Negative y.");
+                    }
+                    buffer.putLong(offset + Integer.BYTES, element.y);
+                }
+
+                @Override
+                public Point decode(ByteBuffer buffer, int offset) {
+                    return points.decode(buffer, offset);
+                }
+            });
+            list.add(new Point(1, 2));
+
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> list.set(0, new Point(9, -1)));
+
+            assertThat(list).containsExactly(new Point(1, 2));
+        }
+
+        @Test
+        void removeShouldShiftAcrossSegments() {
+            List<Integer> list = new OffHeapCustomList<>(FixedWidthCodec.ints(), 2);
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+
+            assertThat(list.remove(1)).isEqualTo(1);
+
+            assertThat(list).containsExactly(0, 2, 3, 4);
+        }
+
+        @Test
+        void clearShouldRemoveAllElements() {
+            List<Integer> list = new OffHeapCustomList<>(FixedWidthCodec.ints(), 2);
+            for (int i = 0; i < 5; i++) {
+                list.add(i);
+            }
+
+            list.clear();
+            list.add(9);
+
+            assertThat(list).containsExactly(9);
+        }
+    }
+
+    @Test
+    void randomOperationsShouldMatchArrayList() {
+        List<Point> list = new OffHeapCustomList<>(new PointCodec(), 8);
+        List<Point> expected = new ArrayList<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 3000; i++) {
+            Point point = new Point(i, random.nextLong());
+            int operation = random.nextInt(3);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, point);
+                expected.add(index, point);
+            } else {
+                list.add(point);
+                expected.add(point);
+            }
+        }
+
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+}
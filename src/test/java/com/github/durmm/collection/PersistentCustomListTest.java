@@ -0,0 +1,131 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PersistentCustomListTest {
+    /**
+     * Deep enough for a trie of three levels plus the tail.
+     */
+    private static final int SIZE = 40_000;
+
+    @Nested
+    class Versions {
+        @Test
+        void plusShouldNotChangePreviousVersion() {
+            PersistentCustomList<String> empty = PersistentCustomList.empty();
+            PersistentCustomList<String> one = empty.plus("a");
+            PersistentCustomList<String> two = one.plus("b");
+
+            assertThat(empty).isEmpty();
+            assertThat(one).containsExactly("a");
+            assertThat(two).containsExactly("a", "b");
+        }
+
+        @Test
+        void withShouldNotChangePreviousVersion() {
+            PersistentCustomList<Integer> list = PersistentCustomList.of(Arrays.asList(1, 2, 3));
+
+            PersistentCustomList<Integer> changed = list.with(1, 5);
+
+            assertThat(list).containsExactly(1, 2, 3);
+            assertThat(changed).containsExactly(1, 5, 3);
+        }
+
+        @Test
+        void minusShouldNotChangePreviousVersion() {
+            PersistentCustomList<Integer> list = PersistentCustomList.of(Arrays.asList(1, 2, 3));
+
+            assertThat(list.minus()).containsExactly(1, 2);
+            assertThat(list).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void minusShouldThrowWhenListIsEmpty() {
+            assertThatIllegalStateException()
+                    .isThrownBy(() -> PersistentCustomList.empty().minus());
+        }
+
+        @Test
+        void mutatorsShouldNotBeSupported() {
+            List<Integer> list = PersistentCustomList.of(Arrays.asList(1, 2, 3));
+
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> list.add(4));
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> list.set(0, 4));
+        }
+
+        @Test
+        void getShouldThrowWhenIndexIsOutOfRange() {
+            List<Integer> list = PersistentCustomList.of(Arrays.asList(1, 2, 3));
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.get(3));
+        }
+    }
+
+    @Nested
+    class LargeLists {
+        @Test
+        void plusShouldKeepEveryElementAcrossTrieLevels() {
+            PersistentCustomList<Integer> list = PersistentCustomList.empty();
+
+            for (int i = 0; i < SIZE; i++) {
+                list = list.plus(i);
+            }
+
+            assertThat(list).hasSize(SIZE);
+            for (int i = 0; i < SIZE; i++) {
+                assertThat(list.get(i)).isEqualTo(i);
+            }
+        }
+
+        @Test
+        void withShouldReplaceInTrieAndTail() {
+            List<Integer> expected = new ArrayList<>();
+            PersistentCustomList<Integer> list = PersistentCustomList.empty();
+            for (int i = 0; i < SIZE; i++) {
+                list = list.plus(i);
+                expected.add(i);
+            }
+
+            for (int i = 0; i < SIZE; i += 97) {
+                list = list.with(i, -i);
+                expected.set(i, -i);
+            }
+            list = list.with(SIZE - 1, 0);
+            expected.set(SIZE - 1, 0);
+
+            assertThat(list).isEqualTo(expected);
+        }
+
+        @Test
+        void minusShouldShrinkBackToEmpty() {
+            PersistentCustomList<Integer> list = PersistentCustomList.empty();
+            List<PersistentCustomList<Integer>> versions = new ArrayList<>();
+            for (int i = 0; i < SIZE; i++) {
+                versions.add(list);
+                list = list.plus(i);
+            }
+
+            for (int i = SIZE - 1; i >= 0; i--) {
+                list = list.minus();
+                if (i % 1000 == 0 || i % 1024 < 2) {
+                    assertThat(list).isEqualTo(versions.get(i));
+                }
+            }
+
+            assertThat(list).isEmpty();
+            assertThat(list.plus(1)).containsExactly(1);
+        }
+    }
+}
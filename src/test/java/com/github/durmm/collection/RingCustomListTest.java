@@ -0,0 +1,223 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RingCustomListTest {
+
+    private RingCustomList<Integer> create() {
+        return new RingCustomList<>(4, GrowthPolicy.doubling());
+    }
+
+    @Nested
+    class Ends {
+        @Test
+        void addFirstShouldPrependAndWrap() {
+            RingCustomList<Integer> list = create();
+            list.add(2);
+            list.add(3);
+
+            list.addFirst(1);
+            list.addFirst(0);
+            list.addFirst(-1);
+
+            assertThat(list).containsExactly(-1, 0, 1, 2, 3);
+            assertThat(list.get(0)).isEqualTo(-1);
+        }
+
+        @Test
+        void slidingWindowShouldReuseArray() {
+            RingCustomList<Integer> list = create();
+
+            for (int i = 0; i < 1000; i++) {
+                list.addLast(i);
+                if (list.size() > 3) {
+                    assertThat(list.pollFirst()).isEqualTo(i - 3);
+                }
+            }
+
+            assertThat(list).containsExactly(997, 998, 999);
+        }
+
+        @Test
+        void removeAtZeroShouldPollHead() {
+            RingCustomList<Integer> list = create();
+            list.add(1);
+            list.add(2);
+
+            assertThat(list.remove(0)).isEqualTo(1);
+            assertThat(list).containsExactly(2);
+        }
+
+        @Test
+        void pollShouldReturnNullWhenEmpty() {
+            RingCustomList<Integer> list = create();
+
+            assertThat(list.pollFirst()).isNull();
+            assertThat(list.pollLast()).isNull();
+            assertThat(list.peekFirst()).isNull();
+            assertThat(list.asDeque().peek()).isNull();
+        }
+
+        @Test
+        void removeFirstShouldThrowWhenEmpty() {
+            RingCustomList<Integer> list = create();
+
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::removeFirst);
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+        }
+
+        @Test
+        void addShouldThrowWhenElementIsNull() {
+            RingCustomList<Integer> list = create();
+
+            assertThatNullPointerException()
+                    .isThrownBy(() -> list.addFirst(null))
+                    .withMessage("The element cannot be null.");
+            assertThatNullPointerException()
+                    .isThrownBy(() -> list.add(null));
+        }
+    }
+
+    @Nested
+    class Middle {
+        @Test
+        void addAndRemoveAtIndexShouldShiftAcrossWrap() {
+            RingCustomList<Integer> list = create();
+            list.add(3);
+            list.add(4);
+            list.addFirst(1);
+            list.addFirst(0);
+
+            list.add(2, 2);
+            list.add(1, 9);
+            assertThat(list).containsExactly(0, 9, 1, 2, 3, 4);
+
+            assertThat(list.remove(1)).isEqualTo(9);
+            assertThat(list.remove(3)).isEqualTo(3);
+            assertThat(list).containsExactly(0, 1, 2, 4);
+        }
+
+        @Test
+        void lookupsShouldFindElementsAcrossWrap() {
+            RingCustomList<Integer> list = create();
+            list.add(2);
+            list.add(1);
+            list.addFirst(1);
+            list.addFirst(0);
+
+            assertThat(list.indexOf(1)).isEqualTo(1);
+            assertThat(list.lastIndexOf(1)).isEqualTo(3);
+            assertThat(list.indexOf(5)).isEqualTo(-1);
+            assertThat(list.asDeque().removeLastOccurrence(1)).isTrue();
+            assertThat(list).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void shouldMatchArrayListAndArrayDequeAfterRandomEdits() {
+            Random random = new Random(24);
+            RingCustomList<Integer> list = create();
+            List<Integer> expected = new ArrayList<>();
+
+            for (int step = 0; step < 5000; step++) {
+                int index = random.nextInt(expected.size() + 1);
+                switch (random.nextInt(5)) {
+                    case 0:
+                        list.addFirst(step);
+                        expected.add(0, step);
+                        break;
+                    case 1:
+                        list.addLast(step);
+                        expected.add(step);
+                        break;
+                    case 2:
+                        list.add(index, step);
+                        expected.add(index, step);
+                        break;
+                    case 3:
+                        assertThat(list.pollFirst()).isEqualTo(expected.isEmpty() ? null : expected.remove(0));
+                        break;
+                    default:
+                        if (index < expected.size()) {
+                            assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                        }
+                        break;
+                }
+            }
+
+            assertThat(list).isEqualTo(expected);
+            assertThat(list.toArray()).isEqualTo(expected.toArray());
+        }
+    }
+
+    @Nested
+    class Iteration {
+        @Test
+        void descendingIteratorShouldWalkBackwards() {
+            RingCustomList<Integer> list = create();
+            list.add(2);
+            list.addFirst(1);
+            list.add(3);
+
+            List<Integer> seen = new ArrayList<>();
+            Iterator<Integer> iterator = list.asDeque().descendingIterator();
+            iterator.forEachRemaining(seen::add);
+
+            assertThat(seen).containsExactly(3, 2, 1);
+        }
+
+        @Test
+        void asDequeShouldBehaveAsDeque() {
+            RingCustomList<Integer> list = create();
+            Deque<Integer> view = list.asDeque();
+            ArrayDeque<Integer> deque = new ArrayDeque<>();
+            for (int i = 0; i < 10; i++) {
+                view.push(i);
+                deque.push(i);
+            }
+
+            assertThat(view.pop()).isEqualTo(deque.pop());
+            assertThat(view).containsExactlyElementsOf(deque);
+            assertThat(list).containsExactlyElementsOf(deque);
+        }
+
+        @Test
+        void asDequeShouldReflectChangesOfList() {
+            RingCustomList<Integer> list = create();
+            Deque<Integer> view = list.asDeque();
+
+            list.add(1);
+            list.addFirst(0);
+            view.offerLast(2);
+
+            assertThat(view.peekFirst()).isEqualTo(0);
+            assertThat(view.pollLast()).isEqualTo(2);
+            assertThat(list).containsExactly(0, 1);
+            assertThat(list.asDeque()).isSameAs(view);
+        }
+
+        @Test
+        void clearShouldEmptyWrappedList() {
+            RingCustomList<Integer> list = create();
+            list.add(1);
+            list.addFirst(0);
+
+            list.clear();
+            list.add(5);
+
+            assertThat(list).containsExactly(5);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ShrinkPolicyTest {
+
+    @Nested
+    class Halving {
+        @Test
+        void shouldKeepCapacityAboveThreshold() {
+            assertThat(ShrinkPolicy.halving(0.25, 16).newCapacity(64, 16)).isEqualTo(64);
+        }
+
+        @Test
+        void shouldHalveCapacityBelowThreshold() {
+            assertThat(ShrinkPolicy.halving(0.25, 16).newCapacity(64, 15)).isEqualTo(32);
+        }
+
+        @Test
+        void shouldHalveRepeatedlyInOneStep() {
+            assertThat(ShrinkPolicy.halving(0.25, 16).newCapacity(1024, 10)).isEqualTo(32);
+        }
+
+        @Test
+        void shouldNotShrinkBelowMinimalCapacity() {
+            assertThat(ShrinkPolicy.halving(0.25, 16).newCapacity(1024, 0)).isEqualTo(16);
+        }
+
+        @Test
+        void shouldLeaveArrayAtMostHalfFull() {
+            ShrinkPolicy policy = ShrinkPolicy.halving(0.25, 0);
+
+            for (int size = 0; size < 100; size++) {
+                int newCapacity = policy.newCapacity(100, size);
+                if (newCapacity < 100) {
+                    assertThat(size).isLessThanOrEqualTo(newCapacity / 2);
+                }
+            }
+        }
+
+        @Test
+        void shouldThrowWhenThresholdIsAboveQuarter() {
+            assertThatIllegalArgumentException().isThrownBy(() -> ShrinkPolicy.halving(0.4, 16));
+        }
+
+        @Test
+        void shouldThrowWhenThresholdIsNotPositive() {
+            assertThatIllegalArgumentException().isThrownBy(() -> ShrinkPolicy.halving(0, 16));
+        }
+
+        @Test
+        void shouldThrowWhenMinimalCapacityIsNegative() {
+            assertThatIllegalArgumentException().isThrownBy(() -> ShrinkPolicy.halving(0.25, -1));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SortedCustomListTest {
+
+    private SortedCustomList<Integer> create(Integer... elements) {
+        SortedCustomList<Integer> list = new SortedCustomList<>(null, 2, GrowthPolicy.doubling());
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Nested
+    class Add {
+        @Test
+        void shouldKeepElementsOrdered() {
+            SortedCustomList<Integer> list = create(5, 1, 4, 2, 3);
+
+            assertThat(list).containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void shouldKeepInsertionOrderOfEqualElements() {
+            SortedCustomList<String> list = new SortedCustomList<>(Comparator.comparing(String::length));
+            list.add("bb");
+            list.add("a");
+            list.add("cc");
+            list.add("aa");
+
+            assertThat(list).containsExactly("a", "bb", "cc", "aa");
+        }
+
+        @Test
+        void shouldUseComparator() {
+            SortedCustomList<Integer> list = new SortedCustomList<>(Comparator.reverseOrder());
+            list.add(1);
+            list.add(3);
+            list.add(2);
+
+            assertThat(list).containsExactly(3, 2, 1);
+        }
+
+        @Test
+        void shouldThrowWhenNullInNaturalOrder() {
+            assertThatNullPointerException()
+                    .isThrownBy(() -> create().add(null))
+                    .withMessage("The element cannot be null.");
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Test
+        void shouldThrowWhenFirstElementIsNotComparable() {
+            List list = new SortedCustomList<>();
+
+            assertThatExceptionOfType(ClassCastException.class)
+                    .isThrownBy(() -> list.add(new Object()));
+            assertThatExceptionOfType(ClassCastException.class)
+                    .isThrownBy(() -> list.addAll(Collections.singletonList(new Object())));
+            assertThat(list).isEmpty();
+        }
+
+        @Test
+        void addAtIndexShouldBeUnsupported() {
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> create(1).add(0, 2));
+        }
+
+        @Test
+        void setShouldBeUnsupported() {
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> create(1).set(0, 2));
+        }
+    }
+
+    @Nested
+    class Lookup {
+        @Test
+        void containsShouldFindElements() {
+            SortedCustomList<Integer> list = create(10, 20, 30);
+
+            assertThat(list.contains(20)).isTrue();
+            assertThat(list.contains(25)).isFalse();
+            assertThat(list.contains(null)).isFalse();
+        }
+
+        @Test
+        void indexOfShouldReturnFirstEqualElement() {
+            SortedCustomList<Integer> list = create(1, 2, 2, 2, 3);
+
+            assertThat(list.indexOf(2)).isEqualTo(1);
+            assertThat(list.lastIndexOf(2)).isEqualTo(3);
+        }
+
+        @Test
+        void indexOfShouldReturnMinusOneWhenMissing() {
+            SortedCustomList<Integer> list = create(1, 3);
+
+            assertThat(list.indexOf(0)).isEqualTo(-1);
+            assertThat(list.indexOf(2)).isEqualTo(-1);
+            assertThat(list.lastIndexOf(4)).isEqualTo(-1);
+        }
+
+        @Test
+        void removeShouldFindElementByBinarySearch() {
+            SortedCustomList<Integer> list = create(1, 2, 3);
+
+            assertThat(list.remove((Object) 2)).isTrue();
+            assertThat(list.remove((Object) 5)).isFalse();
+            assertThat(list).containsExactly(1, 3);
+        }
+    }
+
+    @Nested
+    class Merge {
+        @Test
+        void addAllSortedShouldMergeInterleavedElements() {
+            SortedCustomList<Integer> list = create(1, 4, 7);
+
+            assertThat(list.addAllSorted(Arrays.asList(0, 2, 5, 8, 9))).isTrue();
+
+            assertThat(list).containsExactly(0, 1, 2, 4, 5, 7, 8, 9);
+        }
+
+        @Test
+        void addAllSortedShouldKeepExistingElementsFirstOnTies() {
+            SortedCustomList<String> list = new SortedCustomList<>(Comparator.comparing(String::length));
+            list.add("a");
+            list.add("bb");
+
+            list.addAllSorted(Arrays.asList("c", "dd"));
+
+            assertThat(list).containsExactly("a", "c", "bb", "dd");
+        }
+
+        @Test
+        void addAllSortedShouldThrowWhenNotSorted() {
+            SortedCustomList<Integer> list = create(1);
+
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> list.addAllSorted(Arrays.asList(3, 2)))
+                    .withMessage("The collection is not sorted at index: 1");
+            assertThat(list).containsExactly(1);
+        }
+
+        @Test
+        void addAllSortedShouldKeepListWhenComparatorFailsDuringMerge() {
+            SortedCustomList<Integer> list = new SortedCustomList<>((a, b) -> {
+                if (a + b == 6) {
+                    throw new IllegalStateException("Cannot compare " + a + " and " + b);
+                }
+                return Integer.compare(a, b);
+            });
+            for (int i = 5; i <= 8; i++) {
+                list.add(i);
+            }
+
+            // fails only when 5 is compared with 1, a merge from the back gets there last
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> list.addAllSorted(Arrays.asList(1, 2)));
+
+            assertThat(list).containsExactly(5, 6, 7, 8);
+        }
+
+        @Test
+        void addAllShouldSortAndMerge() {
+            SortedCustomList<Integer> list = create(5);
+
+            assertThat(list.addAll(Arrays.asList(9, 1, 5, 3))).isTrue();
+            assertThat(list.addAll(Collections.emptyList())).isFalse();
+
+            assertThat(list).containsExactly(1, 3, 5, 5, 9);
+        }
+
+        @Test
+        void addAllShouldThrowWhenCollectionIsNull() {
+            assertThatNullPointerException()
+                    .isThrownBy(() -> create().addAll(null))
+                    .withMessage("The collection cannot be null.");
+        }
+
+        @Test
+        void shouldMatchSortedListAfterRandomBatches() {
+            Random random = new Random(18);
+            SortedCustomList<Integer> list = create();
+            List<Integer> expected = new ArrayList<>();
+
+            for (int batch = 0; batch < 50; batch++) {
+                List<Integer> elements = new ArrayList<>();
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    elements.add(random.nextInt(100));
+                }
+                list.addAll(elements);
+                expected.addAll(elements);
+                if (random.nextBoolean() && !list.isEmpty()) {
+                    expected.remove(list.remove(random.nextInt(list.size())));
+                }
+            }
+            Collections.sort(expected);
+
+            assertThat(list).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    class Removal {
+        @Test
+        void subListClearShouldRemoveRange() {
+            SortedCustomList<Integer> list = create(1, 2, 3, 4, 5);
+
+            list.subList(1, 4).clear();
+
+            assertThat(list).containsExactly(1, 5);
+        }
+
+        @Test
+        void clearShouldRemoveAllElements() {
+            SortedCustomList<Integer> list = create(1, 2);
+
+            list.clear();
+            list.add(0);
+
+            assertThat(list).containsExactly(0);
+        }
+    }
+}
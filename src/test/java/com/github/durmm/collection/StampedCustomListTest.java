@@ -0,0 +1,237 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class StampedCustomListTest {
+
+    private StampedCustomList<Integer> create(Integer... elements) {
+        StampedCustomList<Integer> list = new StampedCustomList<>(2, GrowthPolicy.doubling());
+        list.addAll(Arrays.asList(elements));
+        return list;
+    }
+
+    @Nested
+    class SingleThreaded {
+        @Test
+        void shouldAddAndGetElements() {
+            StampedCustomList<Integer> list = create(1, 2);
+            list.add(3);
+            list.add(0, 0);
+
+            assertThat(list).containsExactly(0, 1, 2, 3);
+            assertThat(list.get(3)).isEqualTo(3);
+        }
+
+        @Test
+        void getShouldThrowWhenIndexIsOutOfBounds() {
+            StampedCustomList<Integer> list = create(1);
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.get(1))
+                    .withMessage("Index: 1, Size: 1");
+        }
+
+        @Test
+        void lookupsShouldFindElements() {
+            StampedCustomList<Integer> list = create(1, null, 2, 1);
+
+            assertThat(list.contains(2)).isTrue();
+            assertThat(list.contains(5)).isFalse();
+            assertThat(list.indexOf(null)).isEqualTo(1);
+            assertThat(list.lastIndexOf(1)).isEqualTo(3);
+        }
+
+        @Test
+        void toArrayShouldFillGivenArray() {
+            StampedCustomList<Integer> list = create(1, 2);
+
+            Integer[] larger = list.toArray(new Integer[]{7, 7, 7});
+
+            assertThat(larger).containsExactly(1, 2, null);
+            assertThat(list.toArray(new Integer[0])).containsExactly(1, 2);
+        }
+
+        @Test
+        void removalsShouldShiftElements() {
+            StampedCustomList<Integer> list = create(1, 2, 3, 4, 5);
+
+            assertThat(list.remove(0)).isEqualTo(1);
+            assertThat(list.remove((Object) 4)).isTrue();
+            assertThat(list.removeIf(e -> e == 3)).isTrue();
+            assertThat(list.retainAll(Arrays.asList(5))).isTrue();
+
+            assertThat(list).containsExactly(5);
+        }
+
+        @Test
+        void bulkRemovalsShouldAcceptThisList() {
+            StampedCustomList<Integer> list = create(1, 2, 3);
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertThat(list.retainAll(list)).isFalse();
+                assertThat(list.removeIf(e -> list.indexOf(e) == 1)).isTrue();
+                assertThat(list.removeAll(Collections.unmodifiableList(list))).isTrue();
+            });
+            assertThat(list).isEmpty();
+        }
+
+        @Test
+        void bulkWritesShouldApplyUnderLock() {
+            StampedCustomList<Integer> list = create(3, 1, 2);
+
+            list.replaceAll(e -> e * 10);
+            list.sort(null);
+
+            assertThat(list).containsExactly(10, 20, 30);
+        }
+
+        @Test
+        void clearShouldRemoveAllElements() {
+            StampedCustomList<Integer> list = create(1, 2);
+
+            list.clear();
+            list.add(3);
+
+            assertThat(list).containsExactly(3);
+        }
+    }
+
+    @Nested
+    class FailSafeIteration {
+        @Test
+        void iteratorShouldNotSeeLaterModifications() {
+            StampedCustomList<Integer> list = create(1, 2, 3);
+
+            List<Integer> seen = new ArrayList<>();
+            for (Integer element : list) {
+                seen.add(element);
+                list.set(0, 100);
+                list.remove(list.size() - 1);
+                list.add(7);
+            }
+
+            assertThat(seen).containsExactly(1, 2, 3);
+            assertThat(list).containsExactly(100, 2, 7);
+        }
+
+        @Test
+        void streamShouldNotSeeLaterModifications() {
+            StampedCustomList<Integer> list = create(1, 2, 3);
+
+            List<Integer> seen = list.stream()
+                    .peek(element -> list.add(element * 10))
+                    .collect(Collectors.toList());
+
+            assertThat(seen).containsExactly(1, 2, 3);
+            assertThat(list).containsExactly(1, 2, 3, 10, 20, 30);
+        }
+
+        @Test
+        void subListShouldBeSnapshot() {
+            StampedCustomList<Integer> list = create(1, 2, 3, 4);
+
+            List<Integer> subList = list.subList(1, 3);
+            list.clear();
+
+            assertThat(subList).containsExactly(2, 3);
+        }
+
+        @Test
+        void iteratorShouldNotModifyList() {
+            StampedCustomList<Integer> list = create(1);
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(iterator::remove);
+        }
+
+        @Test
+        void listIteratorShouldStartAtIndex() {
+            ListIterator<Integer> iterator = create(1, 2, 3).listIterator(1);
+
+            assertThat(iterator.next()).isEqualTo(2);
+        }
+
+        @Test
+        void snapshotShouldKeepElementsAfterClear() {
+            StampedCustomList<Integer> list = create(1, 2);
+
+            List<Integer> snapshot = list.snapshot();
+            list.clear();
+            list.add(9);
+
+            assertThat(snapshot).containsExactly(1, 2);
+        }
+    }
+
+    @Test
+    void readersShouldSeeConsistentElementsWhileWriterModifies() throws Exception {
+        int readers = 4;
+        StampedCustomList<Integer> list = new StampedCustomList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < readers; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        // the writer keeps the first 1000 elements in place and equal to their index
+                        int index = (int) (Math.random() * 1000);
+                        assertThat(list.get(index)).isEqualTo(index);
+                        assertThat(list.indexOf(index)).isEqualTo(index);
+                        assertThat(list.size()).isBetween(1000, 1100);
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    for (int round = 0; round < 2000; round++) {
+                        list.add(-1);
+                        list.add(1000, -2);
+                        list.remove(list.size() - 1);
+                        list.remove(1000);
+                    }
+                } finally {
+                    writing.set(false);
+                }
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(list).hasSize(1000);
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.durmm.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TreeCustomListTest {
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Nested
+    class Positional {
+        @Test
+        void addShouldGrowTreeInDepth() {
+            TreeCustomList<Integer> list = new TreeCustomList<>();
+
+            for (int i = 0; i < 100_000; i++) {
+                list.add(i);
+            }
+
+            list.checkInvariants();
+            assertThat(list).hasSize(100_000);
+            assertThat(list.get(54_321)).isEqualTo(54_321);
+            assertThat(list.height()).isBetween(2, 4);
+        }
+
+        @Test
+        void addAtIndexShouldInsertInMiddle() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 1000));
+
+            list.add(500, -1);
+            list.add(0, -2);
+
+            list.checkInvariants();
+            assertThat(list.get(0)).isEqualTo(-2);
+            assertThat(list.get(501)).isEqualTo(-1);
+            assertThat(list.get(502)).isEqualTo(500);
+            assertThat(list).hasSize(1002);
+        }
+
+        @Test
+        void removeShouldRebalanceUntilEmpty() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 10_000));
+
+            for (int i = 0; i < 5000; i++) {
+                assertThat(list.remove(list.size() / 2)).isNotNull();
+            }
+            list.checkInvariants();
+            while (!list.isEmpty()) {
+                list.remove(0);
+            }
+
+            list.checkInvariants();
+            assertThat(list.height()).isZero();
+        }
+
+        @Test
+        void setShouldReplaceElement() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 200));
+
+            assertThat(list.set(150, -1)).isEqualTo(150);
+            assertThat(list.get(150)).isEqualTo(-1);
+        }
+
+        @Test
+        void getShouldThrowWhenIndexIsOutOfBounds() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 3));
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> list.get(3))
+                    .withMessage("Index: 3, Size: 3");
+        }
+    }
+
+    @Nested
+    class SplitAndAppend {
+        @Test
+        void splitShouldMoveTailIntoNewList() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 10_000));
+
+            TreeCustomList<Integer> tail = list.split(3_333);
+
+            list.checkInvariants();
+            tail.checkInvariants();
+            assertThat(list).isEqualTo(range(0, 3_333));
+            assertThat(tail).isEqualTo(range(3_333, 10_000));
+        }
+
+        @Test
+        void splitAtEdgesShouldLeaveOneSideEmpty() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 1000));
+
+            assertThat(list.split(1000)).isEmpty();
+            TreeCustomList<Integer> all = list.split(0);
+
+            assertThat(list).isEmpty();
+            assertThat(all).isEqualTo(range(0, 1000));
+        }
+
+        @Test
+        void appendShouldJoinTreesOfDifferentHeights() {
+            TreeCustomList<Integer> big = new TreeCustomList<>(range(0, 100_000));
+            TreeCustomList<Integer> small = new TreeCustomList<>(range(100_000, 100_005));
+
+            big.append(small);
+            small.append(new TreeCustomList<>(range(0, 3)));
+            TreeCustomList<Integer> tiny = new TreeCustomList<>(range(-3, 0));
+            tiny.append(big);
+
+            tiny.checkInvariants();
+            assertThat(tiny).isEqualTo(range(-3, 100_005));
+            assertThat(big).isEmpty();
+            assertThat(small).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void appendShouldThrowWhenListIsItself() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 3));
+
+            assertThatIllegalArgumentException().isThrownBy(() -> list.append(list));
+        }
+
+        @Test
+        void addAllAtIndexShouldSpliceElements() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 5000));
+
+            list.addAll(2500, range(-3000, 0));
+
+            list.checkInvariants();
+            List<Integer> expected = new ArrayList<>(range(0, 5000));
+            expected.addAll(2500, range(-3000, 0));
+            assertThat(list).isEqualTo(expected);
+        }
+
+        @Test
+        void subListClearShouldCutRange() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 50_000));
+
+            list.subList(100, 49_900).clear();
+
+            list.checkInvariants();
+            List<Integer> expected = new ArrayList<>(range(0, 100));
+            expected.addAll(range(49_900, 50_000));
+            assertThat(list).isEqualTo(expected);
+        }
+
+        @Test
+        void shouldMatchArrayListAfterRandomEdits() {
+            Random random = new Random(21);
+            TreeCustomList<Integer> list = new TreeCustomList<>();
+            List<Integer> expected = new ArrayList<>();
+
+            for (int step = 0; step < 3000; step++) {
+                int index = random.nextInt(expected.size() + 1);
+                switch (random.nextInt(6)) {
+                    case 0:
+                    case 1:
+                        list.add(index, step);
+                        expected.add(index, step);
+                        break;
+                    case 2:
+                        if (index < expected.size()) {
+                            assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                        }
+                        break;
+                    case 3:
+                        List<Integer> added = range(step * 1000, step * 1000 + random.nextInt(300));
+                        list.addAll(index, added);
+                        expected.addAll(index, added);
+                        break;
+                    case 4:
+                        int to = index + random.nextInt(expected.size() - index + 1);
+                        list.subList(index, to).clear();
+                        expected.subList(index, to).clear();
+                        break;
+                    default:
+                        TreeCustomList<Integer> tail = list.split(index);
+                        tail.checkInvariants();
+                        list.append(tail);
+                        break;
+                }
+                list.checkInvariants();
+            }
+
+            assertThat(list).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    class Iteration {
+        @Test
+        void iteratorShouldWalkLeavesInOrder() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 5000));
+
+            List<Integer> seen = new ArrayList<>();
+            list.iterator().forEachRemaining(seen::add);
+
+            assertThat(seen).isEqualTo(range(0, 5000));
+        }
+
+        @Test
+        void iteratorRemoveShouldRemoveAcrossLeaves() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 1000));
+
+            list.removeIf(e -> e % 3 != 0);
+
+            list.checkInvariants();
+            assertThat(list).isEqualTo(range(0, 334).stream().map(e -> e * 3).collect(Collectors.toList()));
+        }
+
+        @Test
+        void forEachShouldVisitAllElements() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(range(0, 3000));
+
+            List<Integer> seen = new ArrayList<>();
+            list.forEach(seen::add);
+
+            assertThat(seen).isEqualTo(range(0, 3000));
+        }
+
+        @Test
+        void iteratorShouldFailFastOnModification() {
+            TreeCustomList<Integer> list = new TreeCustomList<>(Arrays.asList(1, 2, 3));
+            Iterator<Integer> iterator = list.iterator();
+            iterator.next();
+            list.add(4);
+
+            assertThatExceptionOfType(ConcurrentModificationException.class)
+                    .isThrownBy(iterator::next);
+        }
+    }
+}